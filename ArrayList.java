@@ -1,3 +1,8 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
 public class ArrayList<T> implements List<T> {
     private int size;
     private int pointer;
@@ -137,4 +142,82 @@ public class ArrayList<T> implements List<T> {
         return true;
     }
 
+    // independent iterator over the values, several can run at once (also on different threads, as long
+    // as nobody modifies the list meanwhile)
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return items[index++];
+            }
+        };
+    }
+
+    // size-exact spliterator over the values, halves split evenly for balanced fork-join work
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(items, 0, size);
+    }
+
+    private static final class ArraySpliterator<T> implements Spliterator<T> {
+        private final T[] items;
+        private int index; // next value to hand out
+        private final int end; // one past the last value of this part
+
+        ArraySpliterator(T[] items, int index, int end) {
+            this.items = items;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(items[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            for (int i = index; i < end; i++) {
+                action.accept(items[i]);
+            }
+            index = end;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + end) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new ArraySpliterator<>(items, index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+import java.util.Arrays;
+
+public final class BatchFitnessEvaluator {
+
+    //------------------------------------------------------------------------------------------------
+    // Batched fitness evaluation over a structure-of-arrays block of genomes
+    // The block stores cell c of the individual in lane i at block[c * batchSize + i], so the same cell of
+    // consecutive individuals is contiguous and one SIMD load reads it for a whole group of individuals
+    // When the optional SIMD Kernel (optional/VectorFitnessKernel.java, compiled separately, see the README)
+    // loads, i.e. the JVM runs with --add-modules jdk.incubator.vector, the block is scored by it, otherwise
+    // by the scalar loop below; both give exactly the conflict count of SudokuGeometry.conflicts, which is
+    // what SimpleGeneticSudokuSolver.calculateFitness returns
+    // Grids up to 32x32 are supported, their values fit the bits of an int lane
+    private static final Kernel VECTOR_KERNEL = Boolean.getBoolean("sudoku.scalar") ? null : loadVectorKernel();
+
+    // SIMD scoring of a whole block, `lanes()` individuals per instruction
+    interface Kernel {
+        int lanes();
+
+        // block holds cell c of individual i at c * batchSize + i, batchSize is a multiple of lanes()
+        void evaluate(int[][] units, int[] block, int batchSize, int[] fitness);
+    }
+
+    private final SudokuGeometry geometry;
+    private final int batchSize;
+    private final int[] block;
+    private final int[] fitness;
+    private final int[] masks;
+    private final int[] filled;
+    private final boolean vector;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - a block of at least `capacity` individuals, rounded up to whole vectors
+    public BatchFitnessEvaluator(SudokuGeometry geometry, int capacity, boolean useVector) {
+        if (geometry.size > 32) {
+            throw new IllegalArgumentException("Batched fitness supports grids up to 32x32");
+        }
+        this.vector = useVector && VECTOR_KERNEL != null;
+        int lanes = vector ? VECTOR_KERNEL.lanes() : 1;
+        this.geometry = geometry;
+        this.batchSize = (capacity + lanes - 1) / lanes * lanes;
+        this.block = new int[geometry.cellCount * batchSize];
+        this.fitness = new int[batchSize];
+        this.masks = new int[batchSize];
+        this.filled = new int[batchSize];
+    }
+
+    public BatchFitnessEvaluator(SudokuGeometry geometry, int capacity) {
+        this(geometry, capacity, true);
+    }
+
+    // Whether the vector kernel is compiled and the Vector API module is present in this JVM
+    public static boolean vectorAvailable() {
+        return VECTOR_KERNEL != null;
+    }
+
+    public boolean usesVector() {
+        return vector;
+    }
+
+    public SudokuGeometry geometry() {
+        return geometry;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: setGenome(int lane, int[][] board) / setGenome(int lane, int[] cells)
+    // Data Structure: void
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(1)
+    // Scatter a board into its lane of the block
+    public void setGenome(int lane, int[][] board) {
+        int cell = lane;
+        for (int[] row : board) {
+            for (int value : row) {
+                block[cell] = value;
+                cell += batchSize;
+            }
+        }
+    }
+
+    // Same for a flat row-major genome (SudokuProblem)
+    public void setGenome(int lane, int[] cells) {
+        int cell = lane;
+        for (int value : cells) {
+            block[cell] = value;
+            cell += batchSize;
+        }
+    }
+
+    // Empty a lane, an empty board scores 0 conflicts
+    public void clearGenome(int lane) {
+        for (int cell = lane; cell < block.length; cell += batchSize) {
+            block[cell] = 0;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: evaluate()
+    // Data Structure: 1D Integer Array
+    // Time Complexity: O(B * N^2), divided by the lane count with the Vector API
+    // Space Complexity: O(1)
+    // Score every lane of the block, the returned array is reused by the next call
+    public int[] evaluate() {
+        if (vector) {
+            VECTOR_KERNEL.evaluate(geometry.units, block, batchSize, fitness);
+        } else {
+            evaluateScalar();
+        }
+        return fitness;
+    }
+
+    // Scalar fallback, same arithmetic as the vector kernel: every unit is walked once for the whole block,
+    // with the lanes innermost so the block is read in order; 9x9 blocks use the SudokuTables bit and
+    // popcount tables
+    private void evaluateScalar() {
+        Arrays.fill(fitness, 0);
+        boolean classic = geometry.size == SudokuTables.GRID_SIZE;
+        for (int[] unit : geometry.units) {
+            Arrays.fill(masks, 0);
+            Arrays.fill(filled, 0);
+            for (int cell : unit) {
+                int base = cell * batchSize;
+                for (int lane = 0; lane < batchSize; lane++) {
+                    int value = block[base + lane];
+                    int bit = classic ? SudokuTables.BIT[value] : value == 0 ? 0 : 1 << (value - 1);
+                    masks[lane] |= bit;
+                    filled[lane] += bit == 0 ? 0 : 1;
+                }
+            }
+            for (int lane = 0; lane < batchSize; lane++) {
+                int count = classic ? SudokuTables.POPCOUNT[masks[lane]] : Integer.bitCount(masks[lane]);
+                fitness[lane] += filled[lane] - count;
+            }
+        }
+    }
+
+    // Load the vector kernel by name, null when it was not compiled or jdk.incubator.vector is not loaded
+    private static Kernel loadVectorKernel() {
+        try {
+            return (Kernel) Class.forName("VectorFitnessKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+public final class DifficultyEstimator {
+
+    //------------------------------------------------------------------------------------------------
+    // Fast difficulty estimate of a puzzle from cheap features, and the solver configuration it calls for
+    // Features (all O(N^2) to O(N^3) for an N x N puzzle, no search):
+    //   givens            - number of filled cells
+    //   meanCandidates    - mean candidate count over the empty cells
+    //   singleCandidates  - empty cells with exactly one candidate
+    //   propagationRounds - rounds of naked and hidden singles applied until nothing changes
+    //   remaining         - empty cells left after that propagation, 0 means logic alone solves the puzzle
+    // The remaining cells after propagation dominate: a puzzle that singles finish is easy whatever its
+    // givens count, one that leaves most cells open needs search (or a large GA budget)
+    public enum Difficulty { EASY, MEDIUM, HARD, VERY_HARD }
+
+    // GA configuration of each difficulty: population size, mutation rate and generations, Easy and Very
+    // Hard as in SimpleGeneticSudokuSolver.main, Hard as the corpus default
+    public enum Preset {
+        EASY(100, 0.2, 10),
+        MEDIUM(500, 0.2, 30),
+        HARD(1000, 0.2, 50),
+        VERY_HARD(1000, 1.6, 50);
+
+        public final int populationSize;
+        public final double mutationRate;
+        public final int maxGenerations;
+
+        Preset(int populationSize, double mutationRate, int maxGenerations) {
+            this.populationSize = populationSize;
+            this.mutationRate = mutationRate;
+            this.maxGenerations = maxGenerations;
+        }
+    }
+
+    public final int givens;
+    public final double meanCandidates;
+    public final int singleCandidates;
+    public final int propagationRounds;
+    public final int remaining;
+    public final boolean contradiction;
+    public final Difficulty difficulty;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - measure every feature of the puzzle, the puzzle itself is not modified
+    public DifficultyEstimator(int[][] puzzle) {
+        SudokuGeometry geometry = SudokuGeometry.forGrid(puzzle.length);
+        int[] values = new int[geometry.cellCount];
+        long[] used = new long[3 * geometry.size];
+        int filled = 0;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            values[cell] = puzzle[geometry.rowOf[cell]][geometry.colOf[cell]];
+            if (values[cell] != 0) {
+                filled++;
+                for (int unit : geometry.cellUnits[cell]) used[unit] |= 1L << (values[cell] - 1);
+            }
+        }
+
+        int empty = geometry.cellCount - filled;
+        long candidateSum = 0;
+        int singles = 0;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            if (values[cell] == 0) {
+                int count = Long.bitCount(candidates(geometry, used, cell));
+                candidateSum += count;
+                if (count == 1) singles++;
+            }
+        }
+        this.givens = filled;
+        this.meanCandidates = empty == 0 ? 0.0 : (double) candidateSum / empty;
+        this.singleCandidates = singles;
+
+        int rounds = 0;
+        boolean stuck = false;
+        boolean broken = false;
+        while (empty > 0 && !stuck && !broken) {
+            int placed = 0;
+            // Naked singles: cells with one candidate left
+            for (int cell = 0; cell < geometry.cellCount && !broken; cell++) {
+                if (values[cell] != 0) continue;
+                long candidates = candidates(geometry, used, cell);
+                if (candidates == 0) {
+                    broken = true;
+                } else if (Long.bitCount(candidates) == 1) {
+                    place(geometry, values, used, cell, candidates);
+                    placed++;
+                }
+            }
+            // Hidden singles: values with one possible cell left in a unit
+            for (int u = 0; u < geometry.units.length && !broken; u++) {
+                long missing = geometry.fullMask & ~used[u];
+                for (long bits = missing; bits != 0; bits &= bits - 1) {
+                    long bit = bits & -bits;
+                    int only = -1;
+                    int places = 0;
+                    for (int cell : geometry.units[u]) {
+                        if (values[cell] == 0 && (candidates(geometry, used, cell) & bit) != 0) {
+                            only = cell;
+                            places++;
+                        }
+                    }
+                    if (places == 0) {
+                        broken = true;
+                        break;
+                    }
+                    if (places == 1) {
+                        place(geometry, values, used, only, bit);
+                        placed++;
+                    }
+                }
+            }
+            rounds++;
+            empty -= placed;
+            stuck = placed == 0;
+        }
+        this.propagationRounds = rounds;
+        this.remaining = empty;
+        this.contradiction = broken;
+        this.difficulty = classify(geometry);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: preset()
+    // Data Structure: Preset
+    // The GA configuration matching the estimated difficulty
+    public Preset preset() {
+        return Preset.values()[difficulty.ordinal()];
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: useExact()
+    // Data Structure: Boolean (True or False)
+    // Whether the exact solver is the cheapest adequate engine: singles alone finish the puzzle (the
+    // search is then a straight line), or the puzzle is very hard, where the GA budget would be large and
+    // still often fall short; contradictory puzzles go there too, it reports them as unsolvable at once
+    public boolean useExact() {
+        return remaining == 0 || contradiction || difficulty == Difficulty.VERY_HARD;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (givens=%d, mean candidates=%.2f, single candidates=%d, propagation rounds=%d,"
+                + " remaining=%d)", difficulty, givens, meanCandidates, singleCandidates, propagationRounds,
+                remaining);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: classify(SudokuGeometry geometry)
+    // Hand-set thresholds, not fitted: the share of cells still open after propagation decides first, then
+    // the share of givens and the candidate density. The GA struggles with open cells that logic cannot
+    // fill, far more than with empty cells as such. On the SudokuData sets (`java SudokuBenchmark
+    // difficulty` prints the mapping and the GA solve rate per class):
+    //   EASY      - at most a tenth of the cells open and over 55% givens: the Easy set
+    //   MEDIUM    - at most 35% open: the Medium set, and the Very Hard set, which singles alone finish
+    //   HARD      - 35% to 50% open with under 4 candidates per open cell: no built-in puzzle
+    //   VERY_HARD - more open cells: the Hard set, 42 to 55 cells open, where the GA solves the fewest
+    // The classes therefore follow the measured difficulty, not the names of the SudokuData sets
+    private Difficulty classify(SudokuGeometry geometry) {
+        double open = (double) remaining / geometry.cellCount;
+        if (open <= 0.1 && givens >= 0.55 * geometry.cellCount) return Difficulty.EASY;
+        if (open <= 0.35) return Difficulty.MEDIUM;
+        if (open <= 0.5 && meanCandidates < 4.0) return Difficulty.HARD;
+        return Difficulty.VERY_HARD;
+    }
+
+    // Helper Method 2: candidates(SudokuGeometry geometry, long[] used, int cell)
+    private static long candidates(SudokuGeometry geometry, long[] used, int cell) {
+        int[] units = geometry.cellUnits[cell];
+        return geometry.fullMask & ~(used[units[0]] | used[units[1]] | used[units[2]]);
+    }
+
+    // Helper Method 3: place(SudokuGeometry geometry, int[] values, long[] used, int cell, long bit)
+    private static void place(SudokuGeometry geometry, int[] values, long[] used, int cell, long bit) {
+        values[cell] = Long.numberOfTrailingZeros(bit) + 1;
+        for (int unit : geometry.cellUnits[cell]) used[unit] |= bit;
+    }
+}
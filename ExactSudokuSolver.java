@@ -0,0 +1,133 @@
+import java.util.Arrays;
+
+public final class ExactSudokuSolver {
+
+    //------------------------------------------------------------------------------------------------
+    // Exact backtracking solver on bit masks, for any grid SudokuGeometry supports
+    // Every row, column and subgrid keeps the mask of the values it already holds, so the candidates of a
+    // cell are one OR and one AND-NOT. Search always branches on the empty cell with the fewest candidates
+    // (a cell with a single candidate is a forced move, a cell with none ends the branch at once)
+    // Used by the DifficultyEstimator router for puzzles it does not send to the GA, and by the puzzle
+    // generator to check that a puzzle has exactly one solution
+    private final SudokuGeometry geometry;
+    private final int[] values;
+    private final long[] used;
+    private int[] solution;
+    private long solutions;
+    private long limit;
+    private long nodes;
+
+    public ExactSudokuSolver(int gridSize) {
+        this.geometry = SudokuGeometry.forGrid(gridSize);
+        this.values = new int[geometry.cellCount];
+        this.used = new long[3 * geometry.size];
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: solve(int[][] puzzle)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: exponential in the worst case, milliseconds for 9x9 puzzles
+    // Space Complexity: O(N^2)
+    // The first solution found, or null when the puzzle has none (or its givens already conflict)
+    public int[][] solve(int[][] puzzle) {
+        search(puzzle, 1);
+        if (solution == null) {
+            return null;
+        }
+        int[][] board = new int[geometry.size][geometry.size];
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            board[geometry.rowOf[cell]][geometry.colOf[cell]] = solution[cell];
+        }
+        return board;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: countSolutions(int[][] puzzle, long limit)
+    // Data Structure: long
+    // Time Complexity: exponential in the worst case
+    // Space Complexity: O(N^2)
+    // Number of solutions, counting stops at `limit` (limit 2 answers "is the solution unique?")
+    public long countSolutions(int[][] puzzle, long limit) {
+        search(puzzle, limit);
+        return solutions;
+    }
+
+    public int gridSize() {
+        return geometry.size;
+    }
+
+    // Search nodes visited by the last solve or count, a measure of how hard the puzzle was
+    public long nodes() {
+        return nodes;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: search(int[][] puzzle, long limit)
+    // Load the givens and run the search, conflicting givens mean no solution
+    private void search(int[][] puzzle, long limit) {
+        this.limit = limit;
+        this.solutions = 0;
+        this.nodes = 0;
+        this.solution = null;
+        Arrays.fill(used, 0);
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            int value = puzzle[geometry.rowOf[cell]][geometry.colOf[cell]];
+            values[cell] = value;
+            if (value != 0) {
+                long bit = 1L << (value - 1);
+                for (int unit : geometry.cellUnits[cell]) {
+                    if ((used[unit] & bit) != 0) {
+                        return;
+                    }
+                    used[unit] |= bit;
+                }
+            }
+        }
+        branch();
+    }
+
+    // Helper Method 2: branch()
+    // Depth-first search on the most constrained empty cell, false once `limit` solutions were found
+    private boolean branch() {
+        nodes++;
+        int bestCell = -1;
+        long bestCandidates = 0;
+        int bestCount = Integer.MAX_VALUE;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            if (values[cell] != 0) continue;
+            int[] units = geometry.cellUnits[cell];
+            long candidates = geometry.fullMask & ~(used[units[0]] | used[units[1]] | used[units[2]]);
+            int count = Long.bitCount(candidates);
+            if (count < bestCount) {
+                bestCell = cell;
+                bestCandidates = candidates;
+                bestCount = count;
+                if (count <= 1) break;
+            }
+        }
+        if (bestCell < 0) {
+            if (solutions++ == 0) {
+                solution = values.clone();
+            }
+            return solutions < limit;
+        }
+
+        int[] units = geometry.cellUnits[bestCell];
+        for (long candidates = bestCandidates; candidates != 0; candidates &= candidates - 1) {
+            long bit = candidates & -candidates;
+            values[bestCell] = Long.numberOfTrailingZeros(bit) + 1;
+            used[units[0]] |= bit;
+            used[units[1]] |= bit;
+            used[units[2]] |= bit;
+            boolean more = branch();
+            used[units[0]] &= ~bit;
+            used[units[1]] &= ~bit;
+            used[units[2]] &= ~bit;
+            values[bestCell] = 0;
+            if (!more) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,678 @@
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+public class GeneticEngine implements AutoCloseable {
+
+    //------------------------------------------------------------------------------------------------
+    // Problem-independent generational GA on fixed-length int[] genomes, lower fitness is better
+    // A problem plugs in through four interfaces: Genome (length and random initialization),
+    // FitnessFunction, Crossover and Mutation; parents are chosen by any Selection scheme
+    // The engine owns everything else:
+    //   buffers     - two populations of P genomes with their fitness and mutation rates, allocated once and
+    //                 swapped every generation; ranking sorts packed (fitness, index) longs, no objects per genome
+    //   generation  - ranking, elitism (or deterministic crowding), selection, breeding and the stopping rules:
+    //                 target fitness, maxGenerations and an external stop condition
+    //   options     - bounded or batch fitness, self-adaptive mutation rates, stagnation restarts and ranking
+    //                 only the elites, each off by default
+    //   parallelism - parents are selected on the calling thread, then child c is bred and scored on any of
+    //                 `threads` threads with SudokuRandom.stream(generationSeed, c), so a seeded run returns
+    //                 the same genome for every thread count, 0 included
+    //   metrics     - generations, evaluations and the time spent breeding and ranking (see toString)
+    // A Listener sees the population at the start of every generation and after every breeding, which is
+    // where SimpleGeneticSudokuSolver writes its checkpoints and exchanges island migrants; SudokuProblem is
+    // the Sudoku plugin
+    public interface Genome {
+        // Number of genes
+        int length();
+
+        // Fill `genes` with a random starting genome
+        void initialize(int[] genes, SudokuRandom random);
+    }
+
+    public interface FitnessFunction {
+        // Fitness of the genome, lower is better
+        int evaluate(int[] genes);
+
+        // Bounded variant for children (setBoundedFitness): scoring may stop once the fitness is above
+        // `bound`, the result is then only a lower bound above it
+        default int evaluate(int[] genes, int bound) {
+            return evaluate(genes);
+        }
+    }
+
+    public interface BatchFitness {
+        // Score genomes[from..to) into fitness[from..to) together
+        void evaluate(int[][] genomes, int from, int to, int[] fitness);
+    }
+
+    public interface Crossover {
+        // Write a child of the two parents into `child`, the parents are not modified
+        void crossover(int[] parent1, int[] parent2, int[] child, SudokuRandom random);
+    }
+
+    public interface Mutation {
+        // Mutate the genome in place, `rate` is the engine's mutation rate (or the genome's own, adaptive)
+        void mutate(int[] genes, double rate, SudokuRandom random);
+    }
+
+    public interface Listener {
+        // Start of a generation, before ranking: genome(i) is the population as a checkpoint must hold it
+        default void started(int generation) {
+        }
+
+        // The children of the generation are bred and scored and ranked(r) is still the generation just
+        // bred from; replaceChild puts outside genomes (migrants) among the children
+        default void bred(int generation) {
+        }
+    }
+
+    // Self-adaptive mutation: child rate = geometric mean of the parent rates * exp(ADAPTIVE_TAU * N(0, 1)),
+    // kept between MIN_MUTATION_RATE and 1
+    private static final double ADAPTIVE_TAU = 0.3;
+    private static final double MIN_MUTATION_RATE = 0.01;
+    // Share of the ranked population kept by a stagnation restart, the rest is regenerated
+    private static final int RESTART_KEEP_DIVISOR = 10;
+
+    private final Genome genome;
+    private final FitnessFunction fitnessFunction;
+    private final Crossover crossover;
+    private final Mutation mutation;
+    private final int populationSize;
+    private final double mutationRate;
+    private final int maxGenerations;
+
+    private final SudokuRandom random = new SudokuRandom();
+    private Selection selection = Selection.tournament(5);
+    private double eliteFraction = 0.5;
+    private int targetFitness = 0;
+    private boolean boundedFitness = false;
+    private BatchFitness batchFitness = null;
+    private boolean adaptiveMutation = false;
+    private int stagnationLimit = 0;
+    private boolean crowding = false;
+    private boolean rankedElites = false;
+    private BooleanSupplier stopCondition = null;
+    private IntConsumer progressListener = null;
+    private Listener listener = null;
+    private int threads = 0;
+    private ExecutorService pool = null;
+    private boolean ownsPool = false;
+
+    // Buffers, reused by every run
+    private int[][] current;
+    private int[][] next;
+    private int[] fitness;
+    private int[] nextFitness;
+    private double[] rates;
+    private double[] nextRates;
+    private final long[] rankKeys;
+    private final int[] order;
+    private final int[] rankedFitness;
+    private final int[] parents;
+    private final int[] pairing;
+    private final boolean[] elite;
+    private final Integer[] indices;
+    private RankedPopulation<Integer> eliteHeap = null;
+
+    // State and metrics of the last run
+    private int bestFitnessSoFar;
+    private int stagnantGenerations;
+    private int lastGeneration;
+    private int bestFitness;
+    private boolean stopped;
+    private long evaluations;
+    private long rejected;
+    private double lastDiversity;
+    private long breedNanos;
+    private long rankNanos;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - the problem plugins and the GA budget: population size, mutation rate, generations
+    public GeneticEngine(Genome genome, FitnessFunction fitnessFunction, Crossover crossover, Mutation mutation,
+                         int populationSize, double mutationRate, int maxGenerations) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2");
+        }
+        this.genome = genome;
+        this.fitnessFunction = fitnessFunction;
+        this.crossover = crossover;
+        this.mutation = mutation;
+        this.populationSize = populationSize;
+        this.mutationRate = mutationRate;
+        this.maxGenerations = maxGenerations;
+        this.current = new int[populationSize][genome.length()];
+        this.next = new int[populationSize][genome.length()];
+        this.fitness = new int[populationSize];
+        this.nextFitness = new int[populationSize];
+        this.rates = new double[populationSize];
+        this.nextRates = new double[populationSize];
+        this.rankKeys = new long[populationSize];
+        this.order = new int[populationSize];
+        this.rankedFitness = new int[populationSize];
+        this.parents = new int[2 * populationSize];
+        this.pairing = new int[populationSize];
+        this.elite = new boolean[populationSize];
+        this.indices = new Integer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            indices[i] = i;
+        }
+    }
+
+    // Fix the random sequence of the next run
+    public void setSeed(long seed) {
+        random.setState(seed);
+    }
+
+    // State of the engine's generator, e.g. to continue a caller's sequence after a run
+    public long randomState() {
+        return random.getState();
+    }
+
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    // Share of the ranked population copied unchanged into the next generation, in (0, 1)
+    public void setEliteFraction(double eliteFraction) {
+        if (eliteFraction <= 0 || eliteFraction >= 1) {
+            throw new IllegalArgumentException("Elite fraction must be in (0, 1)");
+        }
+        this.eliteFraction = eliteFraction;
+    }
+
+    // The run stops as soon as a genome reaches this fitness, 0 by default
+    public void setTargetFitness(int targetFitness) {
+        this.targetFitness = targetFitness;
+    }
+
+    // Score children against the fitness of the worst elite: one that scores worse can never become an
+    // elite, so FitnessFunction.evaluate(genes, bound) may stop there. Such a rejected child keeps its
+    // partial score, which ranks it below every elite and every exactly scored child
+    public void setBoundedFitness(boolean boundedFitness) {
+        this.boundedFitness = boundedFitness;
+    }
+
+    // Score each generation's children together instead of one by one, null goes back to one by one;
+    // bounded fitness does not apply then
+    public void setBatchFitness(BatchFitness batchFitness) {
+        this.batchFitness = batchFitness;
+    }
+
+    // Let every genome carry its own mutation rate, which its children inherit with a random log-normal step
+    public void setAdaptiveMutation(boolean adaptiveMutation) {
+        this.adaptiveMutation = adaptiveMutation;
+    }
+
+    // After `generations` generations without a better best fitness, keep the best tenth of the ranked
+    // population and initialize the rest again; 0 disables restarts
+    public void setStagnationRestart(int generations) {
+        this.stagnationLimit = generations;
+    }
+
+    // Replace by deterministic crowding instead of elitism: parents are paired at random, each pair breeds
+    // two children, and every child takes the place of the more similar parent (Hamming distance over the
+    // genes) when it is at least as fit. Selection, bounded and batch fitness do not apply in this mode
+    public void setCrowding(boolean crowding) {
+        this.crowding = crowding;
+    }
+
+    // Find the elites with a bounded RankedPopulation heap instead of sorting the whole population,
+    // O(P * log(E)) for E elites: the elites come first, best first, the other genomes follow in
+    // population order
+    public void setRankedElites(boolean rankedElites) {
+        this.rankedElites = rankedElites;
+    }
+
+    // Checked once per generation, the run returns its best genome as soon as it is true
+    public void setStopCondition(BooleanSupplier stopCondition) {
+        this.stopCondition = stopCondition;
+    }
+
+    // Called once per generation with the best fitness of the ranked population
+    public void setProgressListener(IntConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    // Breed and score children on `threads` daemon threads, 0 runs everything on the calling thread
+    // The pool is stopped by close (or by setting 0)
+    public void setThreads(int threads) {
+        shutdownPool();
+        this.threads = threads;
+        if (threads > 0) {
+            pool = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "ga-engine");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ownsPool = true;
+        }
+    }
+
+    // Breed on `threads` tasks of a pool owned by the caller, which close does not stop
+    public void setPool(ExecutorService pool, int threads) {
+        shutdownPool();
+        this.pool = pool;
+        this.threads = pool == null ? 0 : threads;
+        this.ownsPool = false;
+    }
+
+    // Stop the breeding pool (when the engine created it), later runs breed on the calling thread
+    @Override
+    public void close() {
+        shutdownPool();
+        threads = 0;
+    }
+
+    private void shutdownPool() {
+        if (pool != null && ownsPool) {
+            pool.shutdown();
+        }
+        pool = null;
+        ownsPool = false;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: run()
+    // Data Structure: Integer Array
+    // Time Complexity: O(G * P * (L + log(P))) plus the plugins' cost, for genomes of length L
+    // Space Complexity: O(P * L), all of it allocated in the constructor
+    // Evolve a random population until a genome reaches the target fitness, maxGenerations or the stop
+    // condition, return a copy of the best genome
+    public int[] run() {
+        for (int i = 0; i < populationSize; i++) {
+            genome.initialize(current[i], random);
+            fitness[i] = fitnessFunction.evaluate(current[i]);
+            rates[i] = mutationRate;
+        }
+        return evolve(0, populationSize);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: load(int i, int[] genes, int fitness, double mutationRate) / resume(...)
+    // Data Structure: Integer Array
+    // Time Complexity: O(L) per load, resume as run
+    // Space Complexity: O(1)
+    // Continue a run saved by a Listener at the start of `generation`: load every genome of that population
+    // with its fitness and rate, then resume with the generator state and the restart counters of that
+    // moment; the rest of the run is identical to the run that was saved
+    public void load(int i, int[] genes, int fitness, double mutationRate) {
+        System.arraycopy(genes, 0, current[i], 0, current[i].length);
+        this.fitness[i] = fitness;
+        this.rates[i] = mutationRate;
+    }
+
+    public int[] resume(int generation, long randomState, int bestFitnessSoFar, int stagnantGenerations) {
+        random.setState(randomState);
+        this.bestFitnessSoFar = bestFitnessSoFar;
+        this.stagnantGenerations = stagnantGenerations;
+        return evolve(generation, 0);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: evolve(int startGeneration, long initialEvaluations)
+    // Data Structure: Integer Array
+    // Time Complexity: O(G * P * (L + log(P)))
+    // Space Complexity: O(1)
+    // Generation loop shared by fresh and resumed runs
+    private int[] evolve(int startGeneration, long initialEvaluations) {
+        if (startGeneration == 0) {
+            bestFitnessSoFar = Integer.MAX_VALUE;
+            stagnantGenerations = 0;
+        }
+        evaluations = initialEvaluations;
+        rejected = 0;
+        lastDiversity = 0.0;
+        stopped = false;
+        breedNanos = 0;
+        rankNanos = 0;
+        int elites = eliteCount();
+        for (int generation = startGeneration; ; generation++) {
+            if (listener != null) listener.started(generation);
+            rank(elites);
+            if (progressListener != null) progressListener.accept(rankedFitness[0]);
+            if (rankedFitness[0] <= targetFitness || generation >= maxGenerations) {
+                return finish(generation);
+            }
+            if (stagnationLimit > 0) {
+                if (rankedFitness[0] < bestFitnessSoFar) {
+                    bestFitnessSoFar = rankedFitness[0];
+                    stagnantGenerations = 0;
+                } else if (++stagnantGenerations >= stagnationLimit) {
+                    restart();
+                    rank(elites);
+                }
+            }
+            if (stopCondition != null && stopCondition.getAsBoolean()) {
+                stopped = true;
+                return finish(generation);
+            }
+
+            long breedStart = System.nanoTime();
+            if (crowding) {
+                crowdingGeneration();
+            } else {
+                for (int i = 0; i < elites; i++) {
+                    System.arraycopy(current[order[i]], 0, next[i], 0, next[i].length);
+                    nextFitness[i] = rankedFitness[i];
+                    nextRates[i] = rates[order[i]];
+                }
+                selection.prepare(rankedFitness, populationSize);
+                for (int c = elites; c < populationSize; c++) {
+                    parents[2 * c] = order[selection.select(random)];
+                    parents[2 * c + 1] = order[selection.select(random)];
+                }
+                int cutoff = rankedFitness[elites - 1]; // Worst elite kept
+                breed(elites, random.nextLong(), cutoff);
+                if (batchFitness != null) {
+                    batchFitness.evaluate(next, elites, populationSize, nextFitness);
+                } else if (boundedFitness) {
+                    for (int c = elites; c < populationSize; c++) {
+                        if (nextFitness[c] > cutoff) rejected++;
+                    }
+                }
+                evaluations += populationSize - elites;
+            }
+            breedNanos += System.nanoTime() - breedStart;
+            if (listener != null) listener.bred(generation);
+
+            int[][] population = current;
+            current = next;
+            next = population;
+            int[] scores = fitness;
+            fitness = nextFitness;
+            nextFitness = scores;
+            double[] mutationRates = rates;
+            rates = nextRates;
+            nextRates = mutationRates;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Accessors for listeners and the caller, valid during and after a run
+
+    public int populationSize() {
+        return populationSize;
+    }
+
+    public int eliteCount() {
+        return Math.max(1, Math.min(populationSize - 1, (int) (populationSize * eliteFraction)));
+    }
+
+    // Genome i of the current population in buffer order, with its fitness and mutation rate; the array is
+    // the engine's own and must not be modified
+    public int[] genome(int i) {
+        return current[i];
+    }
+
+    public int fitness(int i) {
+        return fitness[i];
+    }
+
+    public double mutationRate(int i) {
+        return rates[i];
+    }
+
+    // Genome of rank r (0 is the best) of the last ranking and its fitness, same ownership as genome
+    public int[] ranked(int rank) {
+        return current[order[rank]];
+    }
+
+    public int rankedFitness(int rank) {
+        return rankedFitness[rank];
+    }
+
+    // In Listener.bred only: put `genes` in place of child `slot` (an elite slot is refused), scored in full
+    // and with the engine's mutation rate
+    public void replaceChild(int slot, int[] genes) {
+        if (slot < eliteCount() || slot >= populationSize) {
+            throw new IllegalArgumentException("Not a child slot: " + slot);
+        }
+        System.arraycopy(genes, 0, next[slot], 0, next[slot].length);
+        nextFitness[slot] = fitnessFunction.evaluate(next[slot]);
+        nextRates[slot] = mutationRate;
+        evaluations++;
+    }
+
+    public int bestFitnessSoFar() {
+        return bestFitnessSoFar;
+    }
+
+    public int stagnantGenerations() {
+        return stagnantGenerations;
+    }
+
+    // Generation at which the last run stopped, maxGenerations when it ran out
+    public int lastGeneration() {
+        return lastGeneration;
+    }
+
+    public int bestFitness() {
+        return bestFitness;
+    }
+
+    // Whether the last run ended on the stop condition
+    public boolean stopped() {
+        return stopped;
+    }
+
+    public long evaluations() {
+        return evaluations;
+    }
+
+    // Children of the last run rejected by bounded fitness
+    public long rejected() {
+        return rejected;
+    }
+
+    // Mean Hamming distance between the paired parents of the last crowding generation
+    public double lastDiversity() {
+        return lastDiversity;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GeneticEngine[generations=%d, best fitness=%d, evaluations=%d, breeding %.1f ms,"
+                + " ranking %.1f ms, threads=%d]", lastGeneration, bestFitness, evaluations, breedNanos / 1e6,
+                rankNanos / 1e6, threads);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: rank(int elites)
+    // order[i] is the index of the i-th best genome, rankedFitness[i] its fitness; ties keep index order
+    // With ranked elites only the first `elites` entries are ranked, the others follow in index order
+    private void rank(int elites) {
+        long rankStart = System.nanoTime();
+        if (rankedElites) {
+            rankElites(elites);
+        } else {
+            for (int i = 0; i < populationSize; i++) {
+                rankKeys[i] = (long) fitness[i] << 32 | i;
+            }
+            Arrays.sort(rankKeys);
+            for (int i = 0; i < populationSize; i++) {
+                order[i] = (int) rankKeys[i];
+                rankedFitness[i] = (int) (rankKeys[i] >> 32);
+            }
+        }
+        rankNanos += System.nanoTime() - rankStart;
+    }
+
+    // Helper Method 2: rankElites(int elites)
+    private void rankElites(int elites) {
+        if (eliteHeap == null || eliteHeap.capacity() != elites) {
+            eliteHeap = new RankedPopulation<>(elites, i -> fitness[i]);
+        }
+        eliteHeap.clear();
+        for (int i = 0; i < populationSize; i++) {
+            eliteHeap.offer(indices[i]);
+            elite[i] = false;
+        }
+        int rank = 0;
+        while (!eliteHeap.isEmpty()) {
+            int i = eliteHeap.removeBest();
+            elite[i] = true;
+            order[rank] = i;
+            rankedFitness[rank++] = fitness[i];
+        }
+        for (int i = 0; i < populationSize; i++) {
+            if (!elite[i]) {
+                order[rank] = i;
+                rankedFitness[rank++] = fitness[i];
+            }
+        }
+    }
+
+    // Helper Method 3: breed(int first, long generationSeed, int cutoff)
+    // Children first .. P-1 of the next generation, on the pool when there is one
+    private void breed(int first, long generationSeed, int cutoff) {
+        if (pool == null) {
+            breedRange(first, 1, generationSeed, cutoff);
+            return;
+        }
+        Future<?>[] futures = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            int start = first + t;
+            futures[t] = pool.submit(() -> breedRange(start, threads, generationSeed, cutoff));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while breeding", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Breeding thread failed", e.getCause());
+        }
+    }
+
+    // Helper Method 4: breedRange(int start, int step, long generationSeed, int cutoff)
+    private void breedRange(int start, int step, long generationSeed, int cutoff) {
+        for (int c = start; c < populationSize; c += step) {
+            SudokuRandom childRandom = SudokuRandom.stream(generationSeed, c);
+            nextRates[c] = breedChild(parents[2 * c], parents[2 * c + 1], next[c], childRandom);
+            if (batchFitness != null) continue; // Scored together after breeding
+            nextFitness[c] = boundedFitness ? fitnessFunction.evaluate(next[c], cutoff)
+                    : fitnessFunction.evaluate(next[c]);
+        }
+    }
+
+    // Helper Method 5: breedChild(int parent1, int parent2, int[] child, SudokuRandom random)
+    // Cross and mutate one child of two current genomes, returns the child's mutation rate
+    private double breedChild(int parent1, int parent2, int[] child, SudokuRandom random) {
+        crossover.crossover(current[parent1], current[parent2], child, random);
+        double rate = mutationRate;
+        if (adaptiveMutation) {
+            rate = Math.sqrt(rates[parent1] * rates[parent2]) * Math.exp(ADAPTIVE_TAU * random.nextGaussian());
+            rate = Math.max(MIN_MUTATION_RATE, Math.min(1.0, rate));
+        }
+        mutation.mutate(child, rate, random);
+        return rate;
+    }
+
+    // Helper Method 6: restart()
+    // Keep the best tenth of the ranked population, initialize every other genome again with the starting
+    // mutation rate
+    private void restart() {
+        for (int r = Math.max(1, populationSize / RESTART_KEEP_DIVISOR); r < populationSize; r++) {
+            int i = order[r];
+            genome.initialize(current[i], random);
+            fitness[i] = fitnessFunction.evaluate(current[i]);
+            rates[i] = mutationRate;
+        }
+        evaluations += populationSize - Math.max(1, populationSize / RESTART_KEEP_DIVISOR);
+        stagnantGenerations = 0;
+    }
+
+    // Helper Method 7: crowdingGeneration()
+    // One generation of deterministic crowding: shuffle the population into pairs, breed two children per
+    // pair into the next buffers and let each child replace the parent it is matched with (the pairing with
+    // the smaller total distance) when its fitness is not worse; the best genome is therefore never lost
+    private void crowdingGeneration() {
+        for (int i = 0; i < populationSize; i++) {
+            pairing[i] = i;
+        }
+        for (int i = populationSize - 1; i > 0; i--) {
+            int k = random.nextInt(i + 1);
+            int temp = pairing[i];
+            pairing[i] = pairing[k];
+            pairing[k] = temp;
+        }
+
+        long distanceSum = 0;
+        for (int i = 0; i + 1 < populationSize; i += 2) {
+            int parent1 = pairing[i];
+            int parent2 = pairing[i + 1];
+            int[] child1 = next[i];
+            int[] child2 = next[i + 1];
+            double rate1 = breedChild(parent1, parent2, child1, random);
+            double rate2 = breedChild(parent2, parent1, child2, random);
+            int fitness1 = fitnessFunction.evaluate(child1);
+            int fitness2 = fitnessFunction.evaluate(child2);
+            evaluations += 2;
+            distanceSum += distance(current[parent1], current[parent2]);
+            int straight = distance(current[parent1], child1) + distance(current[parent2], child2);
+            int crossed = distance(current[parent1], child2) + distance(current[parent2], child1);
+            if (straight > crossed) { // Child 2 competes with parent 1 and child 1 with parent 2
+                int[] genes = child1;
+                child1 = child2;
+                child2 = genes;
+                int score = fitness1;
+                fitness1 = fitness2;
+                fitness2 = score;
+                double rate = rate1;
+                rate1 = rate2;
+                rate2 = rate;
+            }
+            settle(i, child1, fitness1, rate1, parent1);
+            settle(i + 1, child2, fitness2, rate2, parent2);
+        }
+        if (populationSize % 2 == 1) {
+            settle(populationSize - 1, null, Integer.MAX_VALUE, 0, pairing[populationSize - 1]);
+        }
+        lastDiversity = (double) distanceSum / (populationSize / 2);
+    }
+
+    // Support Method: settle(int slot, int[] child, int childFitness, double childRate, int parent)
+    // Slot `slot` of the next generation gets the child when it is at least as fit as the parent, else the
+    // parent; the child's genes may sit in another next-generation slot, so they are copied either way
+    private void settle(int slot, int[] child, int childFitness, double childRate, int parent) {
+        if (child != null && childFitness <= fitness[parent]) {
+            if (child != next[slot]) System.arraycopy(child, 0, next[slot], 0, child.length);
+            nextFitness[slot] = childFitness;
+            nextRates[slot] = childRate;
+        } else {
+            System.arraycopy(current[parent], 0, next[slot], 0, current[parent].length);
+            nextFitness[slot] = fitness[parent];
+            nextRates[slot] = rates[parent];
+        }
+    }
+
+    // Support Method: distance(int[] a, int[] b)
+    // Number of genes holding different values
+    private static int distance(int[] a, int[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) distance++;
+        }
+        return distance;
+    }
+
+    // Helper Method 8: finish(int generation)
+    private int[] finish(int generation) {
+        lastGeneration = generation;
+        bestFitness = rankedFitness[0];
+        return current[order[0]].clone();
+    }
+}
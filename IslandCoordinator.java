@@ -0,0 +1,247 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+
+public class IslandCoordinator implements Closeable {
+
+    //------------------------------------------------------------------------------------------------
+    // Coordinator of the multi-process island model
+    // Accepts `nodes` IslandNode connections, hands every island the same puzzle and GA parameters (with its
+    // own seed), then relays migrants around a ring: the boards sent by island i go to island (i + 1) % nodes
+    // The first SOLVED message wins, its board is kept and STOP is broadcast to every island; otherwise the
+    // run ends when every island has sent DONE, and the best reported board is returned
+    // Each connection has its own reader thread, writes to one island are serialized on its output stream
+    // Run with: java IslandCoordinator <nodes> [port] [level] [--spawn]
+    // --spawn starts the island processes itself on loopback, with the classpath of this JVM
+    public static final int DEFAULT_PORT = 47100;
+
+    private final ServerSocket server;
+    private final int nodes;
+    private final Socket[] sockets;
+    private final DataOutputStream[] outputs;
+    private CountDownLatch finished;
+    private int[][] bestBoard;
+    private int bestFitness;
+    private boolean solved;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - listen on `port`, 0 picks a free port (see port())
+    public IslandCoordinator(int port, int nodes) throws IOException {
+        this.server = new ServerSocket(port);
+        this.nodes = nodes;
+        this.sockets = new Socket[nodes];
+        this.outputs = new DataOutputStream[nodes];
+    }
+
+    public int port() {
+        return server.getLocalPort();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: run(int[][] puzzle, int populationSize, double mutationRate, int maxGenerations,
+    //               int migrationInterval, int migrantCount, long seed)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(G * P * log(P)) per island, all islands in parallel
+    // Space Complexity: O(nodes)
+    // Wait for every island to connect, run the islands to a solution or to the end of their generations,
+    // and return the solution or the best board reported
+    // Arguments the islands could not run with are rejected before any island is accepted: the wire format
+    // carries 9x9 boards only, the migration interval must be positive and a MIGRANTS message holds at most
+    // Short.MAX_VALUE boards
+    public int[][] run(int[][] puzzle, int populationSize, double mutationRate, int maxGenerations,
+                       int migrationInterval, int migrantCount, long seed) throws IOException {
+        if (puzzle.length != PackedBoard.GRID_SIZE) {
+            throw new IllegalArgumentException("The island model supports 9x9 puzzles only, got "
+                    + puzzle.length + "x" + puzzle.length);
+        }
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be at least 1 generation");
+        }
+        if (migrantCount < 0 || migrantCount > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Migrant count must be in [0, " + Short.MAX_VALUE + "]");
+        }
+        finished = new CountDownLatch(nodes);
+        bestBoard = null;
+        bestFitness = Integer.MAX_VALUE;
+        solved = false;
+
+        DataInputStream[] inputs = new DataInputStream[nodes];
+        for (int i = 0; i < nodes; i++) {
+            sockets[i] = server.accept();
+            sockets[i].setTcpNoDelay(true);
+            inputs[i] = new DataInputStream(new BufferedInputStream(sockets[i].getInputStream()));
+            outputs[i] = new DataOutputStream(new BufferedOutputStream(sockets[i].getOutputStream()));
+        }
+        for (int i = 0; i < nodes; i++) {
+            DataOutputStream out = outputs[i];
+            synchronized (out) {
+                out.writeByte(IslandProtocol.CONFIG);
+                out.writeInt(i);
+                out.writeInt(populationSize);
+                out.writeDouble(mutationRate);
+                out.writeInt(maxGenerations);
+                out.writeInt(migrationInterval);
+                out.writeInt(migrantCount);
+                out.writeLong(SudokuRandom.stream(seed, i).nextLong());
+                IslandProtocol.writeBoard(out, puzzle);
+                out.flush();
+            }
+        }
+        for (int i = 0; i < nodes; i++) {
+            int node = i;
+            Thread reader = new Thread(() -> readLoop(node, inputs[node]), "island-coordinator-" + node);
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the islands", e);
+        }
+        synchronized (this) {
+            System.out.println(solved ? "Island model solved the puzzle"
+                    : "Islands finished. Best fitness: " + bestFitness);
+            return bestBoard;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Socket socket : sockets) {
+            if (socket != null) socket.close();
+        }
+        server.close();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: readLoop(int node, DataInputStream in)
+    // Dispatch the messages of one island until it is done or disconnects
+    private void readLoop(int node, DataInputStream in) {
+        try {
+            while (true) {
+                byte type = in.readByte();
+                if (type == IslandProtocol.MIGRANTS) {
+                    int count = in.readShort();
+                    int[][][] boards = new int[count][][];
+                    for (int i = 0; i < count; i++) {
+                        boards[i] = IslandProtocol.readBoard(in);
+                    }
+                    forward((node + 1) % nodes, boards);
+                } else if (type == IslandProtocol.SOLVED) {
+                    report(IslandProtocol.readBoard(in), 0);
+                    return;
+                } else if (type == IslandProtocol.DONE) {
+                    int fitness = in.readShort();
+                    report(IslandProtocol.readBoard(in), fitness);
+                    return;
+                } else {
+                    throw new IOException("Unexpected message type " + type);
+                }
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                if (!solved) System.err.println("Island " + node + " disconnected: " + e.getMessage());
+            }
+            finished.countDown();
+        }
+    }
+
+    // Helper Method 2: forward(int node, int[][][] boards)
+    private void forward(int node, int[][][] boards) {
+        DataOutputStream out = outputs[node];
+        try {
+            synchronized (out) {
+                out.writeByte(IslandProtocol.MIGRANTS);
+                out.writeShort(boards.length);
+                for (int[][] board : boards) {
+                    IslandProtocol.writeBoard(out, board);
+                }
+                out.flush();
+            }
+        } catch (IOException e) {
+            // The island is already gone, its migrants are simply dropped
+        }
+    }
+
+    // Helper Method 3: report(int[][] board, int fitness)
+    // Record a final board, the first solution stops every island
+    private void report(int[][] board, int fitness) {
+        boolean broadcast;
+        synchronized (this) {
+            broadcast = fitness == 0 && !solved;
+            if (fitness < bestFitness) {
+                bestFitness = fitness;
+                bestBoard = board;
+            }
+            solved |= fitness == 0;
+        }
+        if (broadcast) {
+            for (DataOutputStream out : outputs) {
+                try {
+                    synchronized (out) {
+                        out.writeByte(IslandProtocol.STOP);
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    // Island already disconnected
+                }
+            }
+            while (finished.getCount() > 0) {
+                finished.countDown(); // Do not wait for the stopped islands
+            }
+        } else {
+            finished.countDown();
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    public static void main(String[] args) throws Exception {
+        int nodes = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+        String level = args.length > 2 ? args[2] : "Very Hard";
+        boolean spawn = args.length > 3 && args[3].equals("--spawn");
+
+        List<int[][]> boards = SudokuData.GetBoards(level); // Unknown levels are rejected
+        try (IslandCoordinator coordinator = new IslandCoordinator(port, nodes)) {
+            Process[] processes = new Process[spawn ? nodes : 0];
+            for (int i = 0; i < processes.length; i++) {
+                java.util.List<String> command = new java.util.ArrayList<>();
+                command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+                command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments()); // e.g. --enable-preview
+                command.add("-cp");
+                command.add(System.getProperty("java.class.path"));
+                command.add("IslandNode");
+                command.add("localhost");
+                command.add(String.valueOf(coordinator.port()));
+                processes[i] = new ProcessBuilder(command).inheritIO().start();
+            }
+            System.out.println("Waiting for " + nodes + " islands on port " + coordinator.port());
+
+            long startTime = System.currentTimeMillis();
+            int[][] best = coordinator.run(boards.get(0), 1000, 0.2, 50, 5, 20, System.nanoTime());
+            long endTime = System.currentTimeMillis();
+            SimpleGeneticSudokuSolver.printBoard(best);
+            System.out.println("Solved: " + SudokuGeometry.forGrid(best.length).isSolved(best)
+                    + ", time taken: " + (endTime - startTime) / 1000.0 + " seconds");
+            for (Process process : processes) {
+                process.waitFor();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class IslandNode implements Closeable {
+
+    //------------------------------------------------------------------------------------------------
+    // One island of the multi-process island model: a SimpleGeneticSudokuSolver in its own JVM, connected
+    // to an IslandCoordinator over TCP (see IslandProtocol for the messages)
+    // The coordinator sends the puzzle and the GA parameters, the solver then sends its best boards every
+    // migration interval and takes in the boards migrating from its neighbour in the ring, which a
+    // background reader thread queues as they arrive, so the generation loop never waits on the network
+    // Run with: java IslandNode <host> <port>
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final ConcurrentLinkedQueue<int[][]> immigrants = new ConcurrentLinkedQueue<>();
+    private volatile boolean stopped = false;
+
+    final int nodeId;
+    final int populationSize;
+    final double mutationRate;
+    final int maxGenerations;
+    final int migrationInterval;
+    final int migrantCount;
+    final long seed;
+    final int[][] puzzle;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - connect to the coordinator and wait for the CONFIG message
+    public IslandNode(String host, int port) throws IOException {
+        this.socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        if (in.readByte() != IslandProtocol.CONFIG) {
+            throw new IOException("Expected CONFIG from coordinator");
+        }
+        this.nodeId = in.readInt();
+        this.populationSize = in.readInt();
+        this.mutationRate = in.readDouble();
+        this.maxGenerations = in.readInt();
+        this.migrationInterval = in.readInt();
+        this.migrantCount = in.readInt();
+        this.seed = in.readLong();
+        this.puzzle = IslandProtocol.readBoard(in);
+        if (populationSize < 2 || migrationInterval < 1 || migrantCount < 0) {
+            throw new IOException("Invalid CONFIG from coordinator: population " + populationSize
+                    + ", migration interval " + migrationInterval + ", migrants " + migrantCount);
+        }
+
+        Thread reader = new Thread(this::readLoop, "island-node-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: emigrate(int[][][] boards, int count)
+    // Data Structure: void
+    // Time Complexity: O(count)
+    // Space Complexity: O(1)
+    // Send the first `count` boards to the coordinator, which forwards them to the next island
+    public synchronized void emigrate(int[][][] boards, int count) throws IOException {
+        out.writeByte(IslandProtocol.MIGRANTS);
+        out.writeShort(count);
+        for (int i = 0; i < count; i++) {
+            IslandProtocol.writeBoard(out, boards[i]);
+        }
+        out.flush();
+    }
+
+    // Next board received from the neighbouring island, or null when none is waiting
+    public int[][] pollImmigrant() {
+        return immigrants.poll();
+    }
+
+    // True once the coordinator has ended the run, because some island found a solution
+    public boolean stopped() {
+        return stopped;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: reportSolution(int[][] board) / reportDone(int[][] best, int fitness)
+    // Data Structure: void
+    // Tell the coordinator this island solved the puzzle, or ran out of generations with its best board
+    public synchronized void reportSolution(int[][] board) throws IOException {
+        out.writeByte(IslandProtocol.SOLVED);
+        IslandProtocol.writeBoard(out, board);
+        out.flush();
+    }
+
+    public synchronized void reportDone(int[][] best, int fitness) throws IOException {
+        out.writeByte(IslandProtocol.DONE);
+        out.writeShort(fitness);
+        IslandProtocol.writeBoard(out, best);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        stopped = true;
+        socket.close();
+    }
+
+    // Helper Method: readLoop(), body of the reader thread
+    private void readLoop() {
+        try {
+            while (!stopped) {
+                byte type = in.readByte();
+                if (type == IslandProtocol.MIGRANTS) {
+                    int count = in.readShort();
+                    for (int i = 0; i < count; i++) {
+                        immigrants.add(IslandProtocol.readBoard(in));
+                    }
+                } else if (type == IslandProtocol.STOP) {
+                    stopped = true;
+                } else {
+                    throw new IOException("Unexpected message type " + type);
+                }
+            }
+        } catch (EOFException e) {
+            stopped = true; // Coordinator went away, nobody is left to report to
+        } catch (IOException e) {
+            if (!stopped) {
+                System.err.println("Island " + nodeId + " lost the coordinator: " + e.getMessage());
+            }
+            stopped = true;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : IslandCoordinator.DEFAULT_PORT;
+        try (IslandNode node = new IslandNode(host, port)) {
+            SimpleGeneticSudokuSolver solver = new SimpleGeneticSudokuSolver(node.populationSize,
+                    node.mutationRate, node.maxGenerations);
+            solver.setSeed(node.seed);
+            solver.setIsland(node);
+            int[][] best = solver.solve(node.puzzle);
+            System.out.println("Island " + node.nodeId + " finished, solved: "
+                    + SudokuGeometry.forGrid(best.length).isSolved(best));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+final class IslandProtocol {
+
+    //------------------------------------------------------------------------------------------------
+    // Binary wire format between IslandCoordinator and IslandNode, over one TCP connection per node
+    // Every message is a type byte followed by its payload (DataOutputStream, big-endian), boards travel in
+    // the 41-byte PackedBoard form
+    //   CONFIG   coordinator -> node  [node id: int][population: int][mutation rate: double]
+    //                                 [generations: int][migration interval: int][migrants: int]
+    //                                 [seed: long][puzzle]
+    //   MIGRANTS node -> coordinator -> next node in the ring  [count: short][board] * count
+    //   SOLVED   node -> coordinator  [board], a fitness 0 board
+    //   DONE     node -> coordinator  [fitness: short][board], the best board once the generations ran out
+    //   STOP     coordinator -> node  no payload, end the island now
+    static final byte CONFIG = 1;
+    static final byte MIGRANTS = 2;
+    static final byte SOLVED = 3;
+    static final byte DONE = 4;
+    static final byte STOP = 5;
+
+    private IslandProtocol() {
+    }
+
+    // Helper Method 1: writeBoard(DataOutputStream out, int[][] board)
+    // Only 9x9 boards fit the PackedBoard form, any other size is rejected before anything is written
+    static void writeBoard(DataOutputStream out, int[][] board) throws IOException {
+        if (board.length != PackedBoard.GRID_SIZE) {
+            throw new IllegalArgumentException("Island boards must be 9x9, got " + board.length + "x" + board.length);
+        }
+        byte[] bytes = new byte[PackedBoard.BYTES];
+        new PackedBoard(board).toBytes(bytes, 0);
+        out.write(bytes);
+    }
+
+    // Helper Method 2: readBoard(DataInputStream in)
+    static int[][] readBoard(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[PackedBoard.BYTES];
+        in.readFully(bytes);
+        return PackedBoard.fromBytes(bytes, 0).toBoard();
+    }
+}
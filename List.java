@@ -1,4 +1,7 @@
-public interface List<T> {
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface List<T> extends Iterable<T> {
     // insert a value at a specific index (index starts from zero)
     // if the index is invalid, return false
     // return true in other cases
@@ -34,6 +37,7 @@ public interface List<T> {
     public int size();
 
     // return whether the next value exist in the list
+    // hasNext, next and reset share one cursor per list, iterator() gives independent ones
     public boolean hasNext();
 
     // return the next value in the list, and advance to the next index
@@ -53,4 +57,14 @@ public interface List<T> {
 
     public boolean set(int index, T value);
 
+    // stream of the values in the list, in index order
+    public default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    // parallel stream of the values in the list, split by the list's spliterator
+    public default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+import java.util.Arrays;
+
+public final class PackedBoard {
+
+    //------------------------------------------------------------------------------------------------
+    // Compact 9x9 board: the 81 cells as 4-bit values packed into six longs (16 cells per word, cell c in
+    // bits 4 * (c % 16) of word c / 16), 48 bytes of payload against the 9 row arrays of an int[][]
+    // The byte form used on disk is the same nibble order: 41 bytes, the even cell in the low nibble
+    // Used as the key and value of SolutionCache and for the boards of SolutionStore and SudokuCheckpoint
+    public static final int GRID_SIZE = 9;
+    public static final int CELL_COUNT = GRID_SIZE * GRID_SIZE;
+    public static final int BYTES = (CELL_COUNT + 1) / 2;
+    private static final int WORDS = (CELL_COUNT + 15) / 16;
+    private static final long LOW_BITS = 0x1111111111111111L;
+
+    private final long[] words;
+
+    // Empty board
+    public PackedBoard() {
+        this.words = new long[WORDS];
+    }
+
+    private PackedBoard(long[] words) {
+        this.words = words;
+    }
+
+    public PackedBoard(int[][] board) {
+        this();
+        for (int row = 0; row < GRID_SIZE; row++) {
+            for (int col = 0; col < GRID_SIZE; col++) {
+                int cell = row * GRID_SIZE + col;
+                words[cell >>> 4] |= (long) board[row][col] << ((cell & 15) << 2);
+            }
+        }
+    }
+
+    // Row-major cells, as produced by SudokuCanonicalForm
+    public PackedBoard(int[] cells) {
+        this();
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            words[cell >>> 4] |= (long) cells[cell] << ((cell & 15) << 2);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: get(int cell) / set(int cell, int value)
+    // Data Structure: Integer
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Cell access by row-major index, values 0..15
+    public int get(int cell) {
+        return (int) (words[cell >>> 4] >>> ((cell & 15) << 2)) & 0xF;
+    }
+
+    public void set(int cell, int value) {
+        int shift = (cell & 15) << 2;
+        words[cell >>> 4] = (words[cell >>> 4] & ~(0xFL << shift)) | ((long) value << shift);
+    }
+
+    public int get(int row, int col) {
+        return get(row * GRID_SIZE + col);
+    }
+
+    public void set(int row, int col, int value) {
+        set(row * GRID_SIZE + col, value);
+    }
+
+    public PackedBoard copy() {
+        return new PackedBoard(words.clone());
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: toBoard() / toCells()
+    // Data Structure: 2D Integer Array / 1D Integer Array
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(N^2)
+    // Unpack into the int[][] used by solve and printBoard, or into row-major cells
+    public int[][] toBoard() {
+        int[][] board = new int[GRID_SIZE][GRID_SIZE];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            board[cell / GRID_SIZE][cell % GRID_SIZE] = get(cell);
+        }
+        return board;
+    }
+
+    public int[] toCells() {
+        int[] cells = new int[CELL_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            cells[cell] = get(cell);
+        }
+        return cells;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: toBytes(byte[] dest, int offset) / fromBytes(byte[] src, int offset)
+    // Data Structure: void / PackedBoard
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(1)
+    // The 41-byte on-disk form, two cells per byte with the even cell in the low nibble
+    public void toBytes(byte[] dest, int offset) {
+        for (int i = 0; i < BYTES; i++) {
+            dest[offset + i] = (byte) (words[i >>> 3] >>> ((i & 7) << 3));
+        }
+    }
+
+    public static PackedBoard fromBytes(byte[] src, int offset) {
+        long[] words = new long[WORDS];
+        for (int i = 0; i < BYTES; i++) {
+            words[i >>> 3] |= (src[offset + i] & 0xFFL) << ((i & 7) << 3);
+        }
+        return new PackedBoard(words);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 4: distance(PackedBoard other)
+    // Data Structure: Integer
+    // Time Complexity: O(1), six words
+    // Space Complexity: O(1)
+    // Hamming distance: the number of cells whose values differ, a nibble differs when any of its bits does
+    public int distance(PackedBoard other) {
+        int distance = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long diff = words[i] ^ other.words[i];
+            diff |= diff >>> 1;
+            diff |= diff >>> 2;
+            distance += Long.bitCount(diff & LOW_BITS);
+        }
+        return distance;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof PackedBoard && Arrays.equals(words, ((PackedBoard) other).words);
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 0;
+        for (long word : words) {
+            h = (h ^ word) * 0x9E3779B97F4A7C15L;
+        }
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,178 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ParameterTuner {
+
+    //------------------------------------------------------------------------------------------------
+    // Automatic tuning of the GA parameters for each SudokuData difficulty
+    // A seeded random sample of configurations (population size, mutation rate, generations, tournament
+    // size as the selection pressure, elite fraction) is raced with successive halving: every round runs all
+    // surviving configurations on the next boards of the set, in parallel on all cores, ranks them by solved
+    // boards per CPU-second over everything they ran so far and keeps the better half, doubling the boards
+    // per round, until one configuration is left or the set is used up
+    // Every run has a seed derived from the configuration and the board, so which boards a configuration
+    // solves does not depend on thread scheduling; CPU time is measured per worker thread
+    // Run with: java ParameterTuner [level ...], levels default to Easy, Medium, Hard and Very Hard
+    private static final int[] POPULATION_SIZES = {50, 100, 200, 500, 1000}; // ArrayList holds up to 1000
+    private static final double[] MUTATION_RATES = {0.05, 0.1, 0.2, 0.4, 0.8};
+    private static final int[] GENERATIONS = {10, 20, 50, 100};
+    private static final int[] TOURNAMENT_SIZES = {2, 3, 5, 8};
+    private static final double[] ELITE_FRACTIONS = {0.1, 0.25, 0.5};
+    private static final int CANDIDATES = 16;
+
+    private final int threads;
+    private final long seed;
+
+    public ParameterTuner(int threads, long seed) {
+        this.threads = threads;
+        this.seed = seed;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Data Structure: Config - one candidate configuration and its race totals
+    static final class Config {
+        final int id;
+        final int populationSize;
+        final double mutationRate;
+        final int maxGenerations;
+        final int tournamentSize;
+        final double eliteFraction;
+        int runs;
+        int solved;
+        long cpuNanos;
+
+        Config(int id, int populationSize, double mutationRate, int maxGenerations, int tournamentSize,
+               double eliteFraction) {
+            this.id = id;
+            this.populationSize = populationSize;
+            this.mutationRate = mutationRate;
+            this.maxGenerations = maxGenerations;
+            this.tournamentSize = tournamentSize;
+            this.eliteFraction = eliteFraction;
+        }
+
+        // Solved boards per CPU-second so far
+        double score() {
+            return cpuNanos == 0 ? 0.0 : solved / (cpuNanos / 1e9);
+        }
+
+        // Better first: higher score, then more boards solved, then less CPU time
+        boolean betterThan(Config other) {
+            if (score() != other.score()) return score() > other.score();
+            if (solved != other.solved) return solved > other.solved;
+            return cpuNanos < other.cpuNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("population=%d, mutation=%.2f, generations=%d, tournament=%d, elites=%.2f",
+                    populationSize, mutationRate, maxGenerations, tournamentSize, eliteFraction);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: tune(List<int[][]> boards)
+    // Data Structure: Config
+    // Time Complexity: O(C * B) solves for C candidates and B boards, at most, spread over `threads`
+    // Space Complexity: O(C)
+    // Race CANDIDATES sampled configurations on the boards and return the winner
+    public Config tune(List<int[][]> boards) throws Exception {
+        SudokuRandom random = new SudokuRandom(seed);
+        Config[] alive = new Config[CANDIDATES];
+        for (int i = 0; i < alive.length; i++) {
+            alive[i] = new Config(i, POPULATION_SIZES[random.nextInt(POPULATION_SIZES.length)],
+                    MUTATION_RATES[random.nextInt(MUTATION_RATES.length)],
+                    GENERATIONS[random.nextInt(GENERATIONS.length)],
+                    TOURNAMENT_SIZES[random.nextInt(TOURNAMENT_SIZES.length)],
+                    ELITE_FRACTIONS[random.nextInt(ELITE_FRACTIONS.length)]);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int next = 0;
+            int roundBoards = 1;
+            while (alive.length > 1 && next < boards.size()) {
+                int end = Math.min(boards.size(), next + roundBoards);
+                Future<?>[] futures = new Future<?>[alive.length * (end - next)];
+                int f = 0;
+                for (Config config : alive) {
+                    for (int b = next; b < end; b++) {
+                        int[][] board = boards.get(b);
+                        long runSeed = SudokuRandom.stream(seed, (long) b * CANDIDATES + config.id).nextLong();
+                        futures[f++] = executor.submit(() -> run(config, board, runSeed));
+                    }
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                next = end;
+                roundBoards *= 2;
+
+                sort(alive);
+                System.out.printf("  boards 1-%d: best %.2f solves/CPU-s (%s), keeping %d of %d%n", next,
+                        alive[0].score(), alive[0], Math.max(1, alive.length / 2), alive.length);
+                Config[] survivors = new Config[Math.max(1, alive.length / 2)];
+                System.arraycopy(alive, 0, survivors, 0, survivors.length);
+                alive = survivors;
+            }
+        } finally {
+            executor.shutdown();
+        }
+        sort(alive);
+        return alive[0];
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: run(Config config, int[][] board, long runSeed)
+    // One solve with the configuration, its result and CPU time are added to the configuration's totals
+    private static void run(Config config, int[][] board, long runSeed) {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        SimpleGeneticSudokuSolver solver = new SimpleGeneticSudokuSolver(config.populationSize,
+                config.mutationRate, config.maxGenerations);
+        solver.setSeed(runSeed);
+        solver.setVerbose(false);
+        solver.setSelection(Selection.tournament(config.tournamentSize));
+        solver.setEliteFraction(config.eliteFraction);
+        long cpuBefore = threadBean.getCurrentThreadCpuTime();
+        int[][] solution = solver.solve(board);
+        long cpu = threadBean.getCurrentThreadCpuTime() - cpuBefore;
+        boolean solved = SudokuGeometry.forGrid(solution.length).isSolved(solution);
+        synchronized (config) {
+            config.runs++;
+            config.cpuNanos += cpu;
+            if (solved) config.solved++;
+        }
+    }
+
+    // Helper Method 2: sort(Config[] configs)
+    // Insertion sort, best first, the arrays hold a handful of configurations
+    private static void sort(Config[] configs) {
+        for (int i = 1; i < configs.length; i++) {
+            Config config = configs[i];
+            int j = i - 1;
+            while (j >= 0 && config.betterThan(configs[j])) {
+                configs[j + 1] = configs[j];
+                j--;
+            }
+            configs[j + 1] = config;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    public static void main(String[] args) throws Exception {
+        String[] levels = args.length > 0 ? args : new String[] {"Easy", "Medium", "Hard", "Very Hard"};
+        ParameterTuner tuner = new ParameterTuner(Runtime.getRuntime().availableProcessors(), 42);
+        for (String level : levels) {
+            System.out.println("Tuning " + level + ":");
+            Config best = tuner.tune(SudokuData.GetBoards(level));
+            System.out.printf("Best for %s: %s -> solved %d/%d runs, %.2f solves per CPU-second%n", level, best,
+                    best.solved, best.runs, best.score());
+        }
+    }
+}
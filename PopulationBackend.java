@@ -0,0 +1,51 @@
+import java.lang.reflect.InvocationTargetException;
+
+public interface PopulationBackend extends AutoCloseable {
+
+    //------------------------------------------------------------------------------------------------
+    // Alternative population backend of SimpleGeneticSudokuSolver (setOffHeap)
+    // Backends that need a newer JDK than the core sources live in optional/ and are compiled on their own
+    // (see the README), so `javac *.java` keeps working on a plain JDK 17. They are only reached through the
+    // factory methods below, which load them by name: a backend that was not compiled, or whose class file
+    // this JVM cannot load, is reported as unavailable instead of breaking the build
+    String OFF_HEAP_CLASS = "OffHeapPopulation";
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: evolve(double mutationRate, int maxGenerations, SudokuRandom random)
+    // Data Structure: 2D Integer Array
+    // Run the GA until a fitness 0 board or maxGenerations, return the best board
+    int[][] evolve(double mutationRate, int maxGenerations, SudokuRandom random);
+
+    // Release everything the backend holds outside the heap
+    @Override
+    void close();
+
+    //------------------------------------------------------------------------------------------------
+    // Factory methods
+
+    // Whether the off-heap backend (optional/OffHeapPopulation.java) is compiled and loadable on this JVM
+    static boolean offHeapAvailable() {
+        try {
+            Class.forName(OFF_HEAP_CLASS);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // Off-heap population of `populationSize` boards of the puzzle, in native memory until closed
+    static PopulationBackend offHeap(int[][] puzzle, int populationSize) {
+        try {
+            return (PopulationBackend) Class.forName(OFF_HEAP_CLASS).getConstructor(int[][].class, int.class)
+                    .newInstance(puzzle, populationSize);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Off-heap backend failed", e.getCause());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new IllegalStateException("Off-heap backend not available: compile optional/"
+                    + OFF_HEAP_CLASS + ".java on JDK 22 or newer (see README)", e);
+        }
+    }
+}
@@ -0,0 +1,352 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToIntFunction;
+
+public class RankedPopulation<T> implements List<T> {
+
+    //------------------------------------------------------------------------------------------------
+    // Bounded population ranked by fitness (lower is better), stored as an indexed min-max heap
+    // Even levels of the heap hold minimums and odd levels maximums of their subtrees, so the best member
+    // is always at index 0 and the worst at index 1 or 2: both are read in O(1), and insert, replace and
+    // remove at any index restore the order in O(log P) without ever sorting the whole population
+    // Fitness values are read once on insertion and kept next to the members, members must not change their
+    // fitness while they are in the heap
+    // As a List, index i is the i-th heap slot (not the i-th best); insertAt/insertBefore/insertAfter add
+    // the value at the position its fitness calls for
+    private final T[] items;
+    private final int[] keys;
+    private final ToIntFunction<T> fitness;
+    private int size;
+    private int pointer;
+
+    @SuppressWarnings("unchecked")
+    public RankedPopulation(int capacity, ToIntFunction<T> fitness) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.items = (T[]) new Object[capacity];
+        this.keys = new int[capacity];
+        this.fitness = fitness;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: offer(T value)
+    // Data Structure: T
+    // Time Complexity: O(log(P))
+    // Space Complexity: O(1)
+    // Insert the value; when the heap is full it takes the place of the worst member if it is strictly
+    // better. Returns the member that did not fit (the old worst or the value itself), null when there was
+    // room, so a caller can collect everything the bounded ranking left out
+    public T offer(T value) {
+        int key = fitness.applyAsInt(value);
+        if (size < items.length) {
+            items[size] = value;
+            keys[size] = key;
+            pushUp(size++);
+            return null;
+        }
+        int worst = worstIndex();
+        if (key >= keys[worst]) {
+            return value;
+        }
+        T evicted = items[worst];
+        items[worst] = value;
+        keys[worst] = key;
+        restore(worst);
+        return evicted;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: best(), worst(), bestFitness(), worstFitness()
+    // Data Structure: T / Integer
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // The best and worst member and their fitness, null / Integer.MAX_VALUE when empty
+    public T best() {
+        return size == 0 ? null : items[0];
+    }
+
+    public T worst() {
+        return size == 0 ? null : items[worstIndex()];
+    }
+
+    public int bestFitness() {
+        return size == 0 ? Integer.MAX_VALUE : keys[0];
+    }
+
+    public int worstFitness() {
+        return size == 0 ? Integer.MAX_VALUE : keys[worstIndex()];
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: removeBest(), removeWorst()
+    // Data Structure: T
+    // Time Complexity: O(log(P))
+    // Space Complexity: O(1)
+    // Take the best or worst member out of the heap, null when empty; removeBest repeatedly yields the
+    // members best first
+    public T removeBest() {
+        if (size == 0) {
+            return null;
+        }
+        T best = items[0];
+        removeAt(0);
+        return best;
+    }
+
+    public T removeWorst() {
+        if (size == 0) {
+            return null;
+        }
+        int index = worstIndex();
+        T worst = items[index];
+        removeAt(index);
+        return worst;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            items[i] = null;
+        }
+        size = 0;
+        pointer = 0;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // List implementation
+
+    @Override
+    public boolean insertAt(int index, T value) {
+        if (index < 0 || index > size) {
+            return false;
+        }
+        return add(value);
+    }
+
+    @Override
+    public boolean insertBefore(T searchValue, T value) {
+        return contains(searchValue) && add(value);
+    }
+
+    @Override
+    public boolean insertAfter(T searchValue, T value) {
+        return contains(searchValue) && add(value);
+    }
+
+    // Remove the member in heap slot `index`: the last member fills the slot and is moved to its rank
+    @Override
+    public boolean removeAt(int index) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+        size--;
+        items[index] = items[size];
+        keys[index] = keys[size];
+        items[size] = null;
+        if (index < size) {
+            restore(index);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(T value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i].equals(value)) {
+                return removeAt(i);
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean contains(T value) {
+        for (int i = 0; i < size; i++) {
+            if (items[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return pointer < size;
+    }
+
+    @Override
+    public T next() {
+        return pointer < size ? items[pointer++] : null;
+    }
+
+    @Override
+    public void reset() {
+        pointer = 0;
+    }
+
+    @Override
+    public T get(int index) {
+        return index < 0 || index >= size ? null : items[index];
+    }
+
+    // Insert the value, false when the heap is full and the value is not better than the worst member
+    @Override
+    public boolean add(T value) {
+        return offer(value) != value;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Replace the member in heap slot `index`, the new value is moved to its rank
+    @Override
+    public boolean set(int index, T value) {
+        if (index < 0 || index >= size) {
+            return false;
+        }
+        items[index] = value;
+        keys[index] = fitness.applyAsInt(value);
+        restore(index);
+        return true;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return items[index++];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(items, 0, size, Spliterator.ORDERED);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+    // `order` is 1 on min levels and -1 on max levels: a slot with a smaller order * key belongs above
+
+    // Helper Method 1: worstIndex()
+    private int worstIndex() {
+        if (size <= 2) {
+            return size - 1;
+        }
+        return keys[1] >= keys[2] ? 1 : 2;
+    }
+
+    // Helper Method 2: restore(int index)
+    // Move the member in slot `index` to its rank after its key changed: down first, then up from wherever
+    // it ended (it can only violate one direction, the other pass is a no-op)
+    private void restore(int index) {
+        pushUp(pushDown(index));
+    }
+
+    // Helper Method 3: pushUp(int index)
+    // A member placed below its rank moves up along the min or max levels above it
+    private void pushUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parent = (index - 1) / 2;
+        int order = order(index);
+        if (order * Integer.compare(keys[index], keys[parent]) > 0) {
+            swap(index, parent);
+            pushUpLevels(parent, -order);
+        } else {
+            pushUpLevels(index, order);
+        }
+    }
+
+    // Helper Method 4: pushUpLevels(int index, int order)
+    // Move up through the grandparents, which are on the same kind of level
+    private void pushUpLevels(int index, int order) {
+        while (index > 2) {
+            int grandparent = ((index - 1) / 2 - 1) / 2;
+            if (order * Integer.compare(keys[index], keys[grandparent]) >= 0) {
+                return;
+            }
+            swap(index, grandparent);
+            index = grandparent;
+        }
+    }
+
+    // Helper Method 5: pushDown(int index)
+    // Atkinson's trickle-down on the member in slot `index`, returns the slot it ends up in
+    private int pushDown(int index) {
+        int order = order(index);
+        while (true) {
+            int first = 2 * index + 1;
+            if (first >= size) {
+                return index;
+            }
+            // The child or grandchild that belongs highest on this kind of level
+            int extreme = first;
+            if (first + 1 < size && order * Integer.compare(keys[first + 1], keys[extreme]) < 0) {
+                extreme = first + 1;
+            }
+            int lastGrandchild = Math.min(4 * index + 6, size - 1);
+            for (int grandchild = 4 * index + 3; grandchild <= lastGrandchild; grandchild++) {
+                if (order * Integer.compare(keys[grandchild], keys[extreme]) < 0) {
+                    extreme = grandchild;
+                }
+            }
+            if (order * Integer.compare(keys[extreme], keys[index]) >= 0) {
+                return index;
+            }
+            swap(index, extreme);
+            if (extreme <= 2 * index + 2) {
+                return extreme; // A child, its own subtree is in order
+            }
+            int parent = (extreme - 1) / 2;
+            if (order * Integer.compare(keys[extreme], keys[parent]) > 0) {
+                // The member moved past the opposite level between, it stops there and the displaced
+                // member carries on down from the grandchild slot
+                swap(extreme, parent);
+                pushDown(extreme);
+                return parent;
+            }
+            index = extreme;
+        }
+    }
+
+    // Helper Method 6: order(int index), 1 on min (even) levels and -1 on max (odd) levels
+    private static int order(int index) {
+        return (31 - Integer.numberOfLeadingZeros(index + 1)) % 2 == 0 ? 1 : -1;
+    }
+
+    // Helper Method 7: swap(int a, int b)
+    private void swap(int a, int b) {
+        T item = items[a];
+        items[a] = items[b];
+        items[b] = item;
+        int key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+    }
+}
@@ -0,0 +1,205 @@
+public abstract class Selection {
+
+    //------------------------------------------------------------------------------------------------
+    // Parent selection schemes working on population indices
+    // The solver calls prepare once per generation with the fitness of every member of the population,
+    // ranked best first (index 0 has the lowest fitness), then select once per parent, which returns the
+    // index of the chosen member. Nothing is allocated per selection, the per-generation tables of the
+    // schemes that need them are reused across generations
+    //
+    // Lower fitness is better (number of conflicts). Available schemes:
+    //   tournament(k)       - the fittest of k uniformly drawn members
+    //   stochasticUniversal - fitness-proportionate with evenly spaced pointers, weights maxFitness - f + 1
+    //   rank                - linear ranking, the i-th best of P is drawn with weight P - i
+    //   truncation(f)       - uniform over the best fraction f of the population
+    protected int[] fitness;
+    protected int size;
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: prepare(int[] fitness, int size)
+    // Data Structure: void
+    // Time Complexity: O(P) for the table based schemes, O(1) otherwise
+    // Space Complexity: O(P)
+    // Take the fitness of the first `size` entries, ranked best first, the array must not change until the
+    // last select of the generation
+    public void prepare(int[] fitness, int size) {
+        this.fitness = fitness;
+        this.size = size;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: select(SudokuRandom random)
+    // Data Structure: Integer
+    // Index of the next selected parent
+    public abstract int select(SudokuRandom random);
+
+    //------------------------------------------------------------------------------------------------
+    // Factory methods
+    public static Selection tournament(int tournamentSize) {
+        return new Tournament(tournamentSize);
+    }
+
+    public static Selection stochasticUniversal() {
+        return new StochasticUniversal();
+    }
+
+    public static Selection rank() {
+        return new Rank();
+    }
+
+    public static Selection truncation(double fraction) {
+        return new Truncation(fraction);
+    }
+
+    // Scheme by name, as given on a command line: tournament[:k], sus, rank, truncation[:fraction]
+    public static Selection parse(String name) {
+        String[] parts = name.split(":");
+        switch (parts[0]) {
+            case "tournament":
+                return tournament(parts.length > 1 ? Integer.parseInt(parts[1]) : 5);
+            case "sus":
+                return stochasticUniversal();
+            case "rank":
+                return rank();
+            case "truncation":
+                return truncation(parts.length > 1 ? Double.parseDouble(parts[1]) : 0.2);
+            default:
+                throw new IllegalArgumentException("Unknown selection scheme: " + name);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Tournament selection, O(k) per selection
+    private static final class Tournament extends Selection {
+        private final int tournamentSize;
+
+        Tournament(int tournamentSize) {
+            if (tournamentSize < 1) {
+                throw new IllegalArgumentException("Tournament size must be positive");
+            }
+            this.tournamentSize = tournamentSize;
+        }
+
+        @Override
+        public int select(SudokuRandom random) {
+            int fittest = random.nextInt(size);
+            for (int i = 1; i < tournamentSize; i++) {
+                int contender = random.nextInt(size);
+                if (fitness[contender] < fitness[fittest]) {
+                    fittest = contender;
+                }
+            }
+            return fittest;
+        }
+
+        @Override
+        public String toString() {
+            return "tournament:" + tournamentSize;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Stochastic universal sampling, O(1) amortized per selection
+    // One spin places `size` evenly spaced pointers over the cumulative weights, which yields the whole
+    // generation's parents with minimal spread; they are shuffled so consecutive picks are not neighbours
+    private static final class StochasticUniversal extends Selection {
+        private long[] cumulative = new long[0];
+        private int[] picks = new int[0];
+        private int next;
+
+        @Override
+        public void prepare(int[] fitness, int size) {
+            super.prepare(fitness, size);
+            if (cumulative.length < size) {
+                cumulative = new long[size];
+                picks = new int[size];
+            }
+            int worst = 0;
+            for (int i = 0; i < size; i++) {
+                worst = Math.max(worst, fitness[i]);
+            }
+            long total = 0;
+            for (int i = 0; i < size; i++) {
+                total += worst - fitness[i] + 1;
+                cumulative[i] = total;
+            }
+            next = size; // Spin on the first select
+        }
+
+        @Override
+        public int select(SudokuRandom random) {
+            if (next == size) {
+                spin(random);
+                next = 0;
+            }
+            return picks[next++];
+        }
+
+        private void spin(SudokuRandom random) {
+            double step = (double) cumulative[size - 1] / size;
+            double pointer = random.nextDouble() * step;
+            int index = 0;
+            for (int i = 0; i < size; i++, pointer += step) {
+                while (index < size - 1 && cumulative[index] <= pointer) {
+                    index++;
+                }
+                picks[i] = index;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int k = random.nextInt(i + 1);
+                int temp = picks[i];
+                picks[i] = picks[k];
+                picks[k] = temp;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "sus";
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Linear rank selection, O(1) per selection
+    // The weight P - i of rank i sums to T = P(P+1)/2; the rank of a uniform draw in [0, T) is found by
+    // inverting the cumulative sum, a quadratic in i, so no table is needed
+    private static final class Rank extends Selection {
+        @Override
+        public int select(SudokuRandom random) {
+            double n = size;
+            double u = random.nextDouble() * n * (n + 1) / 2;
+            // Cumulative weight of ranks 0..i-1 is i * n - i * (i - 1) / 2, solve for the largest i <= u
+            double b = 2 * n + 1;
+            int index = (int) ((b - Math.sqrt(b * b - 8 * u)) / 2);
+            return Math.min(index, size - 1);
+        }
+
+        @Override
+        public String toString() {
+            return "rank";
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Truncation selection, O(1) per selection: uniform over the best `fraction` of the ranked population
+    private static final class Truncation extends Selection {
+        private final double fraction;
+
+        Truncation(double fraction) {
+            if (fraction <= 0 || fraction > 1) {
+                throw new IllegalArgumentException("Truncation fraction must be in (0, 1]");
+            }
+            this.fraction = fraction;
+        }
+
+        @Override
+        public int select(SudokuRandom random) {
+            return random.nextInt(Math.max(1, (int) (size * fraction)));
+        }
+
+        @Override
+        public String toString() {
+            return "truncation:" + fraction;
+        }
+    }
+}
@@ -1,18 +1,34 @@
-import java.util.Random;
-
-public class SimpleGeneticSudokuSolver {
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+
+public class SimpleGeneticSudokuSolver implements AutoCloseable {
 
     //------------------------------------------------------------------------------------------------
     // Supporting properties
     private static final int generation_display = 1;
     private static final boolean generation_flag = false;
-    private static final boolean merge_sort = false;
 
     // Sudoku board-type properties
-    // Should be constant throughout the whole program
+    // The solver handles any N x N grid with N = n^2 (9x9, 16x16, 25x25...), the geometry is taken from the
+    // puzzle passed to solve, see SudokuGeometry. GRID_SIZE is the classic 9x9 size that the solution
+    // cache, solution store and checkpoints are limited to
     private static final int GRID_SIZE = 9;
-    private static final int SUBGRID_SIZE = 3;
-    private static final Random RANDOM = new Random();
+    private static final int TOURNAMENT_SIZE = 5;
+    private static final ThreadLocal<SudokuValidator> VALIDATOR = ThreadLocal.withInitial(SudokuValidator::new);
 
     // Tunable parameters to optimize solving algorithm
     // The Complexity of this Genetic Algorithm is defined by 2 key manually-tunable parameters
@@ -22,11 +38,15 @@ public class SimpleGeneticSudokuSolver {
     double MUTATION_RATE = 0.0; // Lower mutation for easy puzzles
     int MAX_GENERATIONS = 0; // Fewer generations needed for easy puzzles
 
+    // Every random decision of a run comes from this generator, so a seed (or a checkpointed state)
+    // fixes the whole run
+    private final SudokuRandom random = new SudokuRandom();
+
     //------------------------------------------------------------------------------------------------
     // Data Structure 1: 2D Integer Array 
     // Main data structure representing the Sudoku board elements, 1st & 2nd dimension is row & column
-    // The shape of main Sudoku board is of shape (GRID_SIZE, GRIZ_SIZE) where GRID_SIZE is fixed dim value
-    // The shape of 9 subgrids within Sudoku board is of shape (SUBGRID_SIZE, SUBGRID_SIZE)
+    // The shape of main Sudoku board is of shape (N, N), N = 9 for the classic board
+    // The shape of N subgrids within Sudoku board is of shape (n, n) where n * n = N
     // Accessing each element in the Sudoku board by accessing its index in 1st and 2nd axis of the tensor
     // E.g.: Retrieve tensor[2][3] will access element at row 2, column 3 of 2D tensor of shape (9, 9)
 
@@ -35,19 +55,66 @@ public class SimpleGeneticSudokuSolver {
     // Consist of 2 properties: 2D Integer Array dtype - Sudoku board and Integer dtype - Fitness calculation 
     // Representing single Sudoku solver with appropriate solved element filled into the initial board
     // Fitness is added to indicate the potential colision number of error in the solving Sudoku board
+    // The members of the steady-state mode, the generational loop keeps flat genomes in GeneticEngine
     private static class Individual {
         int[][] board;
         int fitness;
 
-        public Individual(int[][] puzzle) {
-            this.board = generateRandomFilledBoard(puzzle);
+        public Individual(int[][] board) {
+            this.board = board;
             this.fitness = calculateFitness(this.board);
         }
     }
     //--------------------------------------------------------------------------------------
-    // Data Structure 3: List<Individual>
-    // List data structure where elements are of dtype Individual, declared from Individual class
-    // Access the Individual dtype object and its properties by Object.properties
+    // Data Structure 3: GeneticEngine population
+    // The generational loop runs on GeneticEngine with the SudokuProblem plugin: P flat row-major genomes
+    // (cell c of the board at index c) in two buffers the engine swaps every generation, with their fitness
+    // and mutation rates in parallel arrays; boards are converted back only for the result and migrants
+
+    // Optional cache of solved puzzles consulted before running the GA, null when disabled
+    private SolutionCache solutionCache = null;
+    // Optional on-disk store of solved puzzles, consulted before the cache, null when disabled
+    private SolutionStore solutionStore = null;
+    // Optional periodic GA checkpoint, written every checkpointInterval generations, null when disabled
+    private Path checkpointPath = null;
+    private SudokuCheckpoint.Writer checkpointWriter = null;
+    private int checkpointInterval = 0;
+    // Keep the population in native memory (PopulationBackend.offHeap) instead of the engine's heap arrays
+    private boolean offHeap = false;
+    // Score children in SIMD batches (SudokuProblem over BatchFitnessEvaluator) instead of one by one
+    private boolean batchFitness = false;
+    // Steady-state mode with this many worker threads instead of the generational loop, 0 when disabled
+    private int steadyStateThreads = 0;
+    // Island of a multi-process island model, exchanges migrants with its neighbours, null when disabled
+    private IslandNode island = null;
+    // Stop scoring a child once it is worse than the worst elite kept (bounded fitness evaluation)
+    private boolean boundedFitness = false;
+    // Parent selection scheme of the generational loop, see Selection
+    private Selection selection = Selection.tournament(TOURNAMENT_SIZE);
+    // Share of the ranked population carried over unchanged into the next generation
+    private double eliteFraction = 0.5;
+    // Per-individual self-adaptive mutation rates, MUTATION_RATE is then only the starting rate
+    private boolean adaptiveMutation = false;
+    // Partial restart after this many generations without a better best fitness, 0 when disabled
+    private int stagnationLimit = 0;
+    // Deterministic crowding replacement instead of keeping the top half, and the mean Hamming distance
+    // between the paired parents of the last crowding generation
+    private boolean crowding = false;
+    private double lastDiversity = 0.0;
+    // Crossover operator of both the generational and the steady-state loop
+    private SudokuCrossover crossover = SudokuCrossover.UNIFORM;
+    // Generation at which the last generational run stopped, solved or not
+    private int lastGeneration = 0;
+    // Threads breeding the children of each generation on the engine, 0 breeds them on the caller thread
+    private int breedingThreads = 0;
+    private ExecutorService breedingPool = null;
+    // Rank only the elites in a bounded RankedPopulation instead of sorting the population
+    private boolean rankedElites = false;
+    // External stop hook and best-fitness listener of the generational loop, null when not set
+    private BooleanSupplier stopCondition = null;
+    private IntConsumer progressListener = null;
+    // Print the progress and outcome of every run to System.out, off for callers that run many solvers
+    private boolean verbose = true;
 
     //----------------------------------------------------------------------------------------
     // Constructor - accepting 3 parameters to declare the SimpleGeneticSudokuSolver object
@@ -57,6 +124,200 @@ public class SimpleGeneticSudokuSolver {
         this.MAX_GENERATIONS = MAX_GENERATIONS;
     }
 
+    // Put a SolutionCache in front of solve, symmetric variants of a cached puzzle are answered from it
+    public void setSolutionCache(SolutionCache solutionCache) {
+        this.solutionCache = solutionCache;
+    }
+
+    // Persist correct solutions in a SolutionStore and answer puzzles it already holds without the GA
+    public void setSolutionStore(SolutionStore solutionStore) {
+        this.solutionStore = solutionStore;
+    }
+
+    // Fix the random sequence of the next solve, equal seeds and parameters give identical runs
+    public void setSeed(long seed) {
+        random.setState(seed);
+    }
+
+    // Run the GA on the off-heap PopulationBackend, for populations far larger than the heap-based List can
+    // hold. Checkpoints are not written in this mode. The backend is compiled separately (see the README),
+    // enabling it when it is not available throws IllegalStateException
+    public void setOffHeap(boolean offHeap) {
+        if (offHeap && !PopulationBackend.offHeapAvailable()) {
+            throw new IllegalStateException("Off-heap backend not available: compile optional/"
+                    + PopulationBackend.OFF_HEAP_CLASS + ".java on JDK 22 or newer (see README)");
+        }
+        this.offHeap = offHeap;
+    }
+
+    // Score each generation's children together with BatchFitnessEvaluator where that is faster than one
+    // by one, i.e. only with its optional vector kernel loaded (--add-modules jdk.incubator.vector) and on
+    // grids larger than 9x9: the batch benchmark, scatter into the block included, measures the scalar batch
+    // and the 9x9 vector batch slower than the per-board SudokuTables kernel. Elsewhere the flag is ignored
+    // and children are scored one by one; the fitness values are the same either way
+    public void setBatchFitness(boolean batchFitness) {
+        this.batchFitness = batchFitness;
+    }
+
+    // Checked once per generation, the run returns its best board as soon as it is true (e.g. another run of
+    // a SudokuPortfolio has solved the puzzle)
+    public void setStopCondition(BooleanSupplier stopCondition) {
+        this.stopCondition = stopCondition;
+    }
+
+    // Called once per generation with the best fitness of the ranked population
+    public void setProgressListener(IntConsumer progressListener) {
+        this.progressListener = progressListener;
+    }
+
+    // Find each generation's elites with a bounded RankedPopulation heap instead of sorting the whole
+    // population: O(P * log(E)) for E elites. The elites come first, best first, the other members follow
+    // in population order, which tournament and truncation selection (up to the elite fraction) do not
+    // notice, while rank and stochastic universal selection then rank only the elites exactly
+    public void setRankedElites(boolean rankedElites) {
+        this.rankedElites = rankedElites;
+    }
+
+    // Breed each generation's children on `threads` threads, 0 goes back to the caller thread
+    // Parents are selected on the caller thread and every child draws from its own random stream (see
+    // GeneticEngine), so a seeded run gives the same result for any thread count, 0 included
+    // The pool is stopped by close (or by setting 0), the solver is AutoCloseable for try-with-resources
+    public void setBreedingThreads(int threads) {
+        shutdownBreedingPool();
+        this.breedingThreads = threads;
+        if (threads > 0) {
+            breedingPool = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "sudoku-breeder");
+                thread.setDaemon(true); // The pool lives as long as the solver, it must not keep the JVM up
+                return thread;
+            });
+        }
+    }
+
+    // Run the steady-state GA (evolveSteadyState) with `threads` workers, 0 goes back to generations
+    // Checkpoints and seeds do not apply in this mode, thread scheduling decides the order of replacements
+    public void setSteadyState(int threads) {
+        this.steadyStateThreads = threads;
+    }
+
+    // Score children against the survival cutoff, the fitness of the worst elite of the generation: a child
+    // with more conflicts can never join the next elites, so its count stops there and it is rejected
+    // Rejected children stay in the next generation with that partial count, a lower bound above the
+    // cutoff, so they rank below every elite and every exactly scored child and the population size stays
+    // fixed; only their order among themselves is approximate
+    // Ignored while batch fitness is in effect (see setBatchFitness), the batch kernels score full boards
+    public void setBoundedFitness(boolean boundedFitness) {
+        this.boundedFitness = boundedFitness;
+    }
+
+    // Share of the population kept as elites each generation, the rest is refilled with children
+    // At least one elite is always kept and at least one child bred
+    public void setEliteFraction(double eliteFraction) {
+        if (eliteFraction <= 0 || eliteFraction >= 1) {
+            throw new IllegalArgumentException("Elite fraction must be in (0, 1)");
+        }
+        this.eliteFraction = eliteFraction;
+    }
+
+    private int eliteCount() {
+        return Math.max(1, Math.min(POPULATION_SIZE - 1, (int) (POPULATION_SIZE * eliteFraction)));
+    }
+
+    // Choose how parents are selected: tournament of any size, stochastic universal sampling, rank or
+    // truncation selection (Selection)
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    // Choose the crossover operator: uniform cells, or whole rows, columns or subgrids (SudokuCrossover)
+    public void setCrossover(SudokuCrossover crossover) {
+        this.crossover = crossover;
+    }
+
+    // Let every individual carry its own mutation rate, which its children inherit with a random log-normal
+    // step, so the rate that produces fitter children spreads through the population
+    public void setAdaptiveMutation(boolean adaptiveMutation) {
+        this.adaptiveMutation = adaptiveMutation;
+    }
+
+    // After `generations` generations without a better best fitness, keep the best tenth of the population
+    // and replace the rest with new random boards; 0 disables restarts
+    public void setStagnationRestart(int generations) {
+        this.stagnationLimit = generations;
+    }
+
+    // Replace by deterministic crowding: parents are paired at random, each pair breeds two children, and
+    // every child competes only with the more similar parent (Hamming distance over the cells), taking its
+    // place when at least as fit. Niches around different partial solutions survive side by side instead
+    // of the whole population converging on the current best. Selection, batch and bounded fitness do not
+    // apply in this mode
+    public void setCrowding(boolean crowding) {
+        this.crowding = crowding;
+    }
+
+    // Mean Hamming distance between the paired parents of the last crowding generation, a diversity measure
+    public double lastDiversity() {
+        return lastDiversity;
+    }
+
+    // Generation at which the last generational solve stopped, MAX_GENERATIONS when it was not solved
+    public int lastGeneration() {
+        return lastGeneration;
+    }
+
+    // Report each run on System.out (the default), or solve silently
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    // Run this solver as one island of an IslandCoordinator: send the best boards and take in migrants every
+    // migration interval, and stop as soon as the coordinator reports a solution from any island
+    public void setIsland(IslandNode island) {
+        this.island = island;
+    }
+
+    // Write the full GA state to `path` every `interval` generations without blocking the generation loop
+    // When solve is given the puzzle of an existing checkpoint at `path`, it resumes from it
+    // The file is deleted when a run ends (solved, out of generations or stopped), so only a run that was
+    // interrupted, e.g. by a crash, leaves a checkpoint to resume
+    // The writer of a previous checkpoint path is flushed and closed first
+    public void setCheckpoint(Path path, int interval) {
+        closeCheckpointWriter();
+        this.checkpointPath = path;
+        this.checkpointInterval = interval;
+        this.checkpointWriter = new SudokuCheckpoint.Writer(path);
+    }
+
+    // Release the solver's background threads: wait for the last checkpoint and stop its writer, and stop
+    // the breeding pool, breeding then goes back to one thread
+    @Override
+    public void close() {
+        shutdownBreedingPool();
+        breedingThreads = 0;
+        closeCheckpointWriter();
+        checkpointPath = null;
+    }
+
+    private void shutdownBreedingPool() {
+        if (breedingPool != null) {
+            breedingPool.shutdown();
+            breedingPool = null;
+        }
+    }
+
+    private void closeCheckpointWriter() {
+        if (checkpointWriter == null) {
+            return;
+        }
+        try {
+            checkpointWriter.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            checkpointWriter = null;
+        }
+    }
+
     //--------------------------------------------------------------------
 
     //------------------------------------------------------------------------------------------------
@@ -65,162 +326,388 @@ public class SimpleGeneticSudokuSolver {
     // Time Complexity: O(G * P(log(P)))
     // Space Complexity: O(P)
     // Main method of the program: Accept 2D Integer Array Sudoku Puzzle -> Solve it -> Return the solution
+    // With a SolutionStore or SolutionCache set, puzzles they hold skip the GA (store first, it is an exact
+    // O(1) lookup) and correct GA solutions are added to both
     public int[][] solve(int[][] puzzle) {
-        List<Individual> population = initializePopulation(puzzle);
-
-        if(merge_sort) {System.out.println("Implement Merge Sort Algorithm for the fitness in population list");}
-        else {System.out.println("Implement Bubble Sort Algorithm for the fitness in population list");}
-        for (int generation = 0; generation < MAX_GENERATIONS; generation++) {
-            if (merge_sort) {MergeSortPopulation(population);} // Use scratch sort
-            else {BubbleSortPopulation(population);}
-
-            if (population.get(0).fitness == 0) {
-                System.out.println("Solution found at generation: " + generation);
-                return population.get(0).board;
+        if (puzzle.length != GRID_SIZE) {
+            try {
+                return evolve(puzzle);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-
-            List<Individual> nextGeneration = new ArrayList<>();
-            // Keep the fittest (replacement for subList)
-            for (int i = 0; i < POPULATION_SIZE / 2; i++) {
-                nextGeneration.add(population.get(i));
-            }
-
-            while (nextGeneration.size() < POPULATION_SIZE) {
-                Individual parent1 = tournamentSelection(population);
-                Individual parent2 = tournamentSelection(population);
-                int[][] childBoard = crossover(parent1.board, parent2.board, puzzle);
-                mutate(childBoard, puzzle);
-                nextGeneration.add(new Individual(childBoard));
+        }
+        try {
+            if (solutionStore != null) {
+                int[][] stored = solutionStore.get(puzzle);
+                if (stored != null) {
+                    report("Solution found in store");
+                    return stored;
+                }
             }
 
-            population = nextGeneration;
-            if (generation % generation_display == 0) {
-                if (generation_flag) {
-                    System.out.println("Generation " + generation + ", Best Fitness: " + population.get(0).fitness);
+            SudokuCanonicalForm canonical = null;
+            if (solutionCache != null) {
+                canonical = new SudokuCanonicalForm(puzzle);
+                int[][] cached = solutionCache.get(canonical);
+                if (cached != null) {
+                    report("Solution found in cache");
+                    if (solutionStore != null) solutionStore.put(puzzle, cached);
+                    return cached;
                 }
             }
-        }
 
-        System.out.println("Generation number: " + MAX_GENERATIONS);
-        System.out.println("Population size: " + POPULATION_SIZE);
-        System.out.println("Mutation rate: " + MUTATION_RATE);
-        System.out.println("Maximum generations reached. Best fitness: " + population.get(0).fitness);
-        return population.get(0).board;
-    }
-
-    //---------------------------------------------------------------------------
-    // Support Method 1: BubbleSortPopulation(List<Individual> population)
-    // Data Structure: void
-    // Time Complexity: O(N^2)
-    // Space Complexity: O(1)
-    // Bubble Sort implmentation to sort a List<Inidividual> dtype base on the Individual.fitness
-    private void BubbleSortPopulation(List<Individual> population) {
-        int n = population.size();
-        boolean swapped;
-        for (int i = 0; i < n - 1; i++) {
-            swapped = false;
-            for (int j = 0; j < n - i - 1; j++) {
-                if (population.get(j).fitness > population.get(j + 1).fitness) {
-                    Individual temp = population.get(j);
-                    population.set(j, population.get(j + 1));
-                    population.set(j + 1, temp);
-                    swapped = true;
-                }
+            int[][] solution = evolve(puzzle);
+            if ((solutionStore != null || solutionCache != null) && isCorrectSolved(solution)) {
+                if (solutionStore != null) solutionStore.put(puzzle, solution);
+                if (solutionCache != null) solutionCache.put(canonical, solution);
             }
-            if (!swapped) break;
+            return solution;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    //----------------------------------------------------------------------------------
-    // Support Method 1: MergeSortPopulation(List<Inidividual> population)
-    // Data Structure: void
-    // Time Complexity: O(N * log(N))
-    // Space Complexity: O(N)
-    // Merge Sort Implementation to sort the List<Individual> population
-    private void MergeSortPopulation(List<Individual> population) {
-        if (population.size() > 1) {
-            int n = population.size();
-            int middle = n / 2;
-
-            // Create 2 zeros sub population lists of individual from the population list
-            List<Individual> SubPopulation1 = new ArrayList<Individual>();
-            List<Individual> SubPopulation2 = new ArrayList<Individual>();
-
-            // Append the half list to SubPop1 and remains to SubPop2
-            for (int i = 0; i < middle; i++) {
-                SubPopulation1.add(population.get(i));
+    //------------------------------------------------------------------------------------------------
+    // Method 1.1: evolve(int[][] puzzle)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(G * P(log(P)))
+    // Space Complexity: O(P)
+    // The genetic algorithm itself: evolve the population until a fitness 0 board or MAX_GENERATIONS
+    // Resumes instead when a checkpoint of this puzzle exists, runs off-heap when enabled
+    private int[][] evolve(int[][] puzzle) throws IOException {
+        if (offHeap) {
+            try (PopulationBackend population = PopulationBackend.offHeap(puzzle, POPULATION_SIZE)) {
+                return population.evolve(MUTATION_RATE, MAX_GENERATIONS, random);
             }
-
-            for (int i = middle; i < n; i++) {
-                SubPopulation2.add(population.get(i));
+        }
+        if (steadyStateThreads > 0) {
+            return evolveSteadyState(puzzle);
+        }
+        if (checkpointPath != null && puzzle.length == GRID_SIZE && Files.exists(checkpointPath)) {
+            SudokuCheckpoint checkpoint = SudokuCheckpoint.read(checkpointPath);
+            if (sameBoard(checkpoint.puzzle, puzzle)) {
+                report("Resuming from checkpoint at generation: " + checkpoint.generation);
+                return resume(checkpoint);
             }
+        }
+        return runEngine(puzzle, null);
+    }
 
-            // Apply divide and conquer paradigm, recursively merge sort 2 sub lists
-            MergeSortPopulation(SubPopulation1);
-            MergeSortPopulation(SubPopulation2);
+    //------------------------------------------------------------------------------------------------
+    // Method 1.2: resume(Path path)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(G * P(log(P)))
+    // Space Complexity: O(P)
+    // Restore the configuration (budget, selection, crossover, elite fraction, adaptive mutation, crowding,
+    // bounded fitness, ranked elites and restarts), RNG state and population of a checkpoint and continue
+    // the run from its generation, the result is identical to the run that wrote the checkpoint, whatever
+    // the breeding threads of either. Checkpoints of format versions 1 and 2 hold only the budget, the
+    // solver's own operators are used for the rest
+    // The checkpoint's configuration only applies to this run, the solver's own is restored afterwards
+    public int[][] resume(Path path) throws IOException {
+        return resume(SudokuCheckpoint.read(path));
+    }
 
-            // Merge the 2 sorted SubPopulation1 and SubPopulation2 into 1 sorted list
-            MergePopulation(SubPopulation1, SubPopulation2, population);
+    private int[][] resume(SudokuCheckpoint checkpoint) throws IOException {
+        int populationSize = POPULATION_SIZE;
+        double mutationRate = MUTATION_RATE;
+        int maxGenerations = MAX_GENERATIONS;
+        Selection ownSelection = selection;
+        SudokuCrossover ownCrossover = crossover;
+        double ownEliteFraction = eliteFraction;
+        boolean ownAdaptive = adaptiveMutation;
+        boolean ownCrowding = crowding;
+        boolean ownBounded = boundedFitness;
+        boolean ownRankedElites = rankedElites;
+        int ownStagnationLimit = stagnationLimit;
+        POPULATION_SIZE = checkpoint.populationSize;
+        MUTATION_RATE = checkpoint.mutationRate;
+        MAX_GENERATIONS = checkpoint.maxGenerations;
+        if (checkpoint.selection != null) {
+            selection = checkpoint.selection;
+            crossover = checkpoint.crossover;
+            eliteFraction = checkpoint.eliteFraction;
+            adaptiveMutation = (checkpoint.flags & SudokuCheckpoint.ADAPTIVE) != 0;
+            crowding = (checkpoint.flags & SudokuCheckpoint.CROWDING) != 0;
+            boundedFitness = (checkpoint.flags & SudokuCheckpoint.BOUNDED) != 0;
+            rankedElites = (checkpoint.flags & SudokuCheckpoint.RANKED_ELITES) != 0;
+            stagnationLimit = checkpoint.stagnationLimit;
+        }
+        try {
+            return runEngine(checkpoint.puzzle, checkpoint);
+        } finally {
+            POPULATION_SIZE = populationSize;
+            MUTATION_RATE = mutationRate;
+            MAX_GENERATIONS = maxGenerations;
+            selection = ownSelection;
+            crossover = ownCrossover;
+            eliteFraction = ownEliteFraction;
+            adaptiveMutation = ownAdaptive;
+            crowding = ownCrowding;
+            boundedFitness = ownBounded;
+            rankedElites = ownRankedElites;
+            stagnationLimit = ownStagnationLimit;
         }
     }
 
-    // Support Method for MergeSortPopulation: MergePopulation(sub1, sub2, dest) - List<Individual> dtype
-    private void MergePopulation(List<Individual> sub1, List<Individual> sub2, List<Individual> dest) {
-        int p1 = 0, p2 = 0, pDest = 0;
-        while (p1 < sub1.size() && p2 < sub2.size()) {
-            if (sub1.get(p1).fitness <= sub2.get(p2).fitness) {
-                dest.set(pDest, sub1.get(p1));
-                p1++;
+    //------------------------------------------------------------------------------------------------
+    // Method 1.3: runEngine(int[][] puzzle, SudokuCheckpoint checkpoint)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(G * P * (N^2 + log(P)))
+    // Space Complexity: O(P * N^2)
+    // The generational GA: a GeneticEngine over the SudokuProblem of the puzzle, configured from this solver,
+    // runs selection, elitism (or crowding), breeding and the stopping rules; the solver adds checkpoints,
+    // island migration and the run report through the engine's Listener. A fresh run starts from the
+    // solver's generator, a checkpoint run from its saved population, and the generator continues from
+    // where the engine left it
+    private int[][] runEngine(int[][] puzzle, SudokuCheckpoint checkpoint) throws IOException {
+        SudokuProblem problem = new SudokuProblem(puzzle, crossover);
+        boolean batchScoring = batchFitness && BatchFitnessEvaluator.vectorAvailable() && puzzle.length > GRID_SIZE;
+        try (GeneticEngine engine = new GeneticEngine(problem, problem, problem, problem, POPULATION_SIZE,
+                MUTATION_RATE, MAX_GENERATIONS)) {
+            engine.setSelection(selection);
+            engine.setEliteFraction(eliteFraction);
+            engine.setBoundedFitness(boundedFitness);
+            engine.setBatchFitness(batchScoring ? problem : null);
+            engine.setAdaptiveMutation(adaptiveMutation);
+            engine.setStagnationRestart(stagnationLimit);
+            engine.setCrowding(crowding);
+            engine.setRankedElites(rankedElites);
+            engine.setPool(breedingPool, breedingThreads);
+            engine.setProgressListener(progressListener);
+            engine.setStopCondition(() -> (island != null && island.stopped())
+                    || (stopCondition != null && stopCondition.getAsBoolean()));
+            engine.setListener(new GeneticEngine.Listener() {
+                @Override
+                public void started(int generation) {
+                    if (checkpointWriter != null && generation % checkpointInterval == 0
+                            && puzzle.length == GRID_SIZE && generation < MAX_GENERATIONS) {
+                        writeCheckpoint(engine, puzzle, generation);
+                    }
+                }
+
+                @Override
+                public void bred(int generation) {
+                    if (island != null && generation % island.migrationInterval == 0) {
+                        try {
+                            migrate(engine, problem);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    if (generation % generation_display == 0) {
+                        if (generation_flag) {
+                            report("Generation " + generation + ", Best Fitness: " + engine.rankedFitness(0)
+                                    + (crowding ? ", Diversity: " + String.format("%.2f", engine.lastDiversity()) : ""));
+                        }
+                    }
+                }
+            });
+
+            int[] best;
+            if (checkpoint == null) {
+                engine.setSeed(random.getState());
+                best = engine.run();
             } else {
-                dest.set(pDest, sub2.get(p2));
-                p2++;
+                if (checkpoint.boards.length != POPULATION_SIZE) {
+                    throw new IOException("Checkpoint holds " + checkpoint.boards.length
+                            + " individuals for a population of " + POPULATION_SIZE);
+                }
+                for (int i = 0; i < checkpoint.boards.length; i++) {
+                    engine.load(i, checkpoint.boards[i].toCells(), checkpoint.fitness[i],
+                            checkpoint.mutationRates[i]);
+                }
+                best = engine.resume(checkpoint.generation, checkpoint.randomState, checkpoint.bestFitness,
+                        checkpoint.stagnantGenerations);
             }
-            pDest++;
+            random.setState(engine.randomState());
+            lastGeneration = engine.lastGeneration();
+            lastDiversity = engine.lastDiversity();
+            int[][] board = problem.toBoard(best);
+            if (checkpointWriter != null) checkpointWriter.discard();
+
+            if (engine.bestFitness() == 0) {
+                report("Solution found at generation: " + lastGeneration);
+                if (island != null) island.reportSolution(board);
+            } else if (engine.stopped()) {
+                report(island != null && island.stopped()
+                        ? "Stopped by the island coordinator at generation: " + lastGeneration
+                        : "Stopped at generation: " + lastGeneration);
+            } else {
+                report("Generation number: " + MAX_GENERATIONS);
+                report("Population size: " + POPULATION_SIZE);
+                report("Mutation rate: " + MUTATION_RATE);
+                report("Maximum generations reached. Best fitness: " + engine.bestFitness());
+                if (boundedFitness && !batchScoring && !crowding) {
+                    report("Children rejected by bounded fitness: " + engine.rejected());
+                }
+                if (island != null) island.reportDone(board, engine.bestFitness());
+            }
+            return board;
         }
+    }
 
-        while (p1 < sub1.size()) {
-            dest.set(pDest++, sub1.get(p1++));
+    //------------------------------------------------------------------------------------------------
+    // Method 1.4: writeCheckpoint(GeneticEngine engine, int[][] puzzle, int generation)
+    // Data Structure: void
+    // Time Complexity: O(P)
+    // Space Complexity: O(1)
+    // Encode the operator configuration and the engine's state at the start of this generation into the
+    // writer's idle buffer and queue it, skipped when both buffers are still being written
+    private void writeCheckpoint(GeneticEngine engine, int[][] puzzle, int generation) {
+        int size = engine.populationSize();
+        ByteBuffer buffer = checkpointWriter.acquire(SudokuCheckpoint.size(size, selection));
+        if (buffer == null) {
+            return;
+        }
+        int flags = (adaptiveMutation ? SudokuCheckpoint.ADAPTIVE : 0) | (crowding ? SudokuCheckpoint.CROWDING : 0)
+                | (boundedFitness ? SudokuCheckpoint.BOUNDED : 0)
+                | (rankedElites ? SudokuCheckpoint.RANKED_ELITES : 0);
+        SudokuCheckpoint.writeHeader(buffer, POPULATION_SIZE, MUTATION_RATE, MAX_GENERATIONS);
+        SudokuCheckpoint.writeConfiguration(buffer, eliteFraction, crossover, flags, stagnationLimit,
+                breedingThreads, selection);
+        SudokuCheckpoint.writeState(buffer, generation, engine.randomState(), engine.bestFitnessSoFar(),
+                engine.stagnantGenerations(), puzzle, size);
+        for (int i = 0; i < size; i++) {
+            SudokuCheckpoint.writeIndividual(buffer, engine.genome(i), engine.fitness(i), engine.mutationRate(i));
+        }
+        SudokuCheckpoint.finish(buffer);
+        checkpointWriter.submit();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1.5: migrate(GeneticEngine engine, SudokuProblem problem)
+    // Data Structure: void
+    // Time Complexity: O(k * N^2) for k migrants
+    // Space Complexity: O(k)
+    // Send the best boards of the ranked population to the next island, then put the boards received so far
+    // in place of the newest children at the end of the next generation, the next ranking places them
+    private void migrate(GeneticEngine engine, SudokuProblem problem) throws IOException {
+        int count = Math.min(island.migrantCount, engine.populationSize());
+        int[][][] emigrants = new int[count][][];
+        for (int i = 0; i < count; i++) {
+            emigrants[i] = problem.toBoard(engine.ranked(i));
         }
+        island.emigrate(emigrants, count);
 
-        while (p2 < sub2.size()) {
-            dest.set(pDest++, sub2.get(p2++));
+        int slot = engine.populationSize() - 1;
+        int[][] immigrant;
+        while (slot >= engine.eliteCount() && (immigrant = island.pollImmigrant()) != null) {
+            engine.replaceChild(slot--, problem.toGenes(immigrant));
         }
     }
 
     //------------------------------------------------------------------------------------------------
-    // Method 2: initializePopulation(int[][] puzzle)
-    // Data Structure: List<Individual>
-    // Time Complexity: O(P)
-    // Space Compledxity: O(P)
-    // Initialize the population list, where each Individual are single Sudoku board and its fitness value
-    private List<Individual> initializePopulation(int[][] puzzle) {
-        List<Individual> population = new ArrayList<>();
+    // Method 1.6: evolveSteadyState(int[][] puzzle)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(E * N^2 / T) for E evaluations on T threads
+    // Space Complexity: O(P)
+    // Steady-state GA without a generation barrier: every worker repeatedly picks two parents by
+    // tournament, produces one child and puts it in place of the worst of TOURNAMENT_SIZE random members
+    // if it is at least as fit. Slots are swapped with compareAndSet, so workers never block each other and
+    // a replacement that lost a race is simply retried on fresh slots
+    // The evaluation budget matches the generational loop: MAX_GENERATIONS times the children it breeds
+    private int[][] evolveSteadyState(int[][] puzzle) throws IOException {
+        AtomicReferenceArray<Individual> slots = new AtomicReferenceArray<>(POPULATION_SIZE);
         for (int i = 0; i < POPULATION_SIZE; i++) {
-            population.add(new Individual(puzzle));
+            slots.set(i, new Individual(generateRandomFilledBoard(puzzle, random)));
+        }
+        long budget = (long) MAX_GENERATIONS * (POPULATION_SIZE - eliteCount());
+        AtomicLong evaluations = new AtomicLong();
+        AtomicReference<Individual> solution = new AtomicReference<>();
+
+        Callable<?>[] workers = new Callable<?>[steadyStateThreads];
+        for (int t = 0; t < steadyStateThreads; t++) {
+            SudokuRandom workerRandom = random.split();
+            workers[t] = () -> {
+                while (solution.get() == null && evaluations.getAndIncrement() < budget) {
+                    Individual parent1 = tournamentSelection(slots, workerRandom);
+                    Individual parent2 = tournamentSelection(slots, workerRandom);
+                    int[][] childBoard = crossover(parent1.board, parent2.board, puzzle, workerRandom);
+                    mutate(childBoard, puzzle, MUTATION_RATE, workerRandom);
+                    Individual child = new Individual(childBoard);
+                    if (child.fitness == 0) {
+                        solution.compareAndSet(null, child);
+                    }
+                    replaceWorse(slots, child, workerRandom);
+                }
+                return null;
+            };
+        }
+
+        long startTime = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(steadyStateThreads);
+        try {
+            Future<?>[] futures = new Future<?>[workers.length];
+            for (int t = 0; t < workers.length; t++) {
+                futures[t] = executor.submit(workers[t]);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted steady-state run", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Steady-state worker failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        long evaluated = Math.min(evaluations.get(), budget);
+        report(String.format("Steady-state: %d evaluations on %d threads, %.0f evaluations/s",
+                evaluated, steadyStateThreads, evaluated / seconds));
+
+        if (solution.get() != null) {
+            report("Solution found after evaluations: " + evaluated);
+            return solution.get().board;
+        }
+        Individual best = slots.get(0);
+        for (int i = 1; i < POPULATION_SIZE; i++) {
+            if (slots.get(i).fitness < best.fitness) best = slots.get(i);
+        }
+        report("Evaluation budget reached. Best fitness: " + best.fitness);
+        return best.board;
+    }
+
+    // Support Method: replaceWorse(AtomicReferenceArray<Individual> slots, Individual child, SudokuRandom random)
+    // Inverse tournament: the least fit of TOURNAMENT_SIZE random slots is replaced by the child when the
+    // child is at least as fit; a failed compareAndSet means another worker changed that slot, so retry
+    private static void replaceWorse(AtomicReferenceArray<Individual> slots, Individual child, SudokuRandom random) {
+        while (true) {
+            int worst = random.nextInt(slots.length());
+            Individual victim = slots.get(worst);
+            for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+                int index = random.nextInt(slots.length());
+                Individual contender = slots.get(index);
+                if (contender.fitness > victim.fitness) {
+                    worst = index;
+                    victim = contender;
+                }
+            }
+            if (child.fitness > victim.fitness || slots.compareAndSet(worst, victim, child)) {
+                return;
+            }
         }
-        return population;
     }
 
     //------------------------------------------------------------------------------------------------
-    // Method 3: generateRandomFilledBoard(int[][] puzzle)
+    // Method 2: generateRandomFilledBoard(int[][] puzzle, SudokuRandom random)
     // Data Structure: 2D Integer Array
-    // Time Complexity: O(1)
-    // Space Complexity: O(1)
+    // Time Complexity: O(N^3) for an N x N board, O(N) candidate scan per cell
+    // Space Complexity: O(N^2)
     // Generate the random solving filled Sudoku board, which may be incorrect or incorrect
-    private static int[][] generateRandomFilledBoard(int[][] puzzle) {
+    private static int[][] generateRandomFilledBoard(int[][] puzzle, SudokuRandom random) {
+        SudokuGeometry geometry = SudokuGeometry.forGrid(puzzle.length);
         int[][] board = copyBoard(puzzle);
-        List<Integer> numbers = new ArrayList<>();
-        for (int i = 1; i <= GRID_SIZE; i++) {
-            numbers.add(i);
-        }
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
+        for (int i = 0; i < geometry.size; i++) {
+            for (int j = 0; j < geometry.size; j++) {
                 if (board[i][j] == 0) {
-                    List<Integer> possible = getPossibleValues(board, i, j);
-                    if (!possible.isEmpty()) {
-                        board[i][j] = possible.get(RANDOM.nextInt(possible.size()));
+                    long possible = geometry.candidates(board, i, j);
+                    if (possible != 0) {
+                        board[i][j] = SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)));
                     } else {
-                        board[i][j] = numbers.get(RANDOM.nextInt(numbers.size())); // Fallback
+                        board[i][j] = 1 + random.nextInt(geometry.size); // Fallback
                     }
                 }
             }
@@ -229,58 +716,48 @@ public class SimpleGeneticSudokuSolver {
     }
 
     //------------------------------------------------------------------------------------------------
-    // Method 4: tournamentSelection(List<Individual> population)
+    // Method 3: tournamentSelection(AtomicReferenceArray<Individual> slots, SudokuRandom random)
     // Data Structure: Individual
     // Time Complexity: O(1)
     // Space Complexity: O(1)
-    private static Individual tournamentSelection(List<Individual> population) {
-        int tournamentSize = 5;
-        List<Individual> tournament = new ArrayList<>();
-        for (int i = 0; i < tournamentSize; i++) {
-            tournament.add(population.get(RANDOM.nextInt(population.size())));
-        }
-        Individual fittest = tournament.get(0);
-        for (int i = 1; i < tournament.size(); i++) {
-            if (tournament.get(i).fitness < fittest.fitness) {
-                fittest = tournament.get(i);
+    // Tournament over the shared slots of the steady-state mode, the generational loop uses Selection
+    private static Individual tournamentSelection(AtomicReferenceArray<Individual> slots, SudokuRandom random) {
+        Individual fittest = slots.get(random.nextInt(slots.length()));
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            Individual contender = slots.get(random.nextInt(slots.length()));
+            if (contender.fitness < fittest.fitness) {
+                fittest = contender;
             }
         }
         return fittest;
     }
 
     //------------------------------------------------------------------------------------------------
-    // Method 5: crossover(int[][] parent1, int[][] parent2, int[][] puzzle)
+    // Method 4: crossover(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random)
     // Data Structure: 2D Integer Array
-    // Time Complexity: O(1)
-    // Space Complexity: O(1)
-    // Cross over operation of GAs, combine the potential great solving traits of 2 parents to child solution 
-    private static int[][] crossover(int[][] parent1, int[][] parent2, int[][] puzzle) {
-        int[][] child = copyBoard(puzzle);
-        Random random = new Random();
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                if (child[i][j] == 0) {
-                    child[i][j] = random.nextBoolean() ? parent1[i][j] : parent2[i][j];
-                }
-            }
-        }
-        return child;
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(N^2)
+    // Cross over operation of GAs, combine the potential great solving traits of 2 parents to child solution
+    // The operator is chosen with setCrossover, uniform by default (see SudokuCrossover)
+    private int[][] crossover(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random) {
+        return crossover.apply(parent1, parent2, puzzle, random);
     }
 
     //------------------------------------------------------------------------------------------------
-    // Method 6: mutate(int[][] board, int[][] puzzle)
+    // Method 5: mutate(int[][] board, int[][] puzzle, double mutationRate, SudokuRandom random)
     // Data Structure: dtype - void method, no dtype return
     // Time Complexity: O(1)
     // Space Complexity: O(1)
-    // Given tunable parameter MUTATION_RATE, randomly fill possible value if variation of mutation is low
-    private void mutate(int[][] board, int[][] puzzle) {
-        Random random = new Random();
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                if (puzzle[i][j] == 0 && random.nextDouble() < MUTATION_RATE) {
-                    List<Integer> possibleValues = getPossibleValues(board, i, j);
-                    if (!possibleValues.isEmpty()) {
-                        board[i][j] = possibleValues.get(random.nextInt(possibleValues.size()));
+    // Given the mutation rate (MUTATION_RATE, or the child's own rate in adaptive mode), randomly fill possible
+    // value if variation of mutation is low
+    private static void mutate(int[][] board, int[][] puzzle, double mutationRate, SudokuRandom random) {
+        SudokuGeometry geometry = SudokuGeometry.forGrid(puzzle.length);
+        for (int i = 0; i < geometry.size; i++) {
+            for (int j = 0; j < geometry.size; j++) {
+                if (puzzle[i][j] == 0 && random.nextDouble() < mutationRate) {
+                    long possibleValues = geometry.candidates(board, i, j);
+                    if (possibleValues != 0) {
+                        board[i][j] = SudokuGeometry.valueAt(possibleValues, random.nextInt(Long.bitCount(possibleValues)));
                     }
                 }
             }
@@ -288,132 +765,36 @@ public class SimpleGeneticSudokuSolver {
     }
 
     //------------------------------------------------------------------------------------------------
-    // Method 7: calculateFitness(int[][] board) -> fitness = 0 means correct Sudoku solution
+    // Method 6: calculateFitness(int[][] board) -> fitness = 0 means correct Sudoku solution
     // Data Structure: dtype - integer
-    // Time Complexity: O(1)
+    // Time Complexity: O(N^2), one bit mask per row, column and subgrid
     // Space Complexity: O(1)
     // Calculate the fitness of current board solution - the violation of errors based on Sudoku rules
     private static int calculateFitness(int[][] board) {
-        int conflicts = 0;
-        for (int i = 0; i < GRID_SIZE; i++) {
-            conflicts += countDuplicates(getRow(board, i));
-            conflicts += countDuplicates(getColumn(board, i));
-        }
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                conflicts += countDuplicates(getSubgrid(board, i * SUBGRID_SIZE, j * SUBGRID_SIZE));
-            }
-        }
-        return conflicts;
+        return SudokuGeometry.forGrid(board.length).conflicts(board);
     }
 
+
     //------------------------------------------------------------------------------------------------
     // Methods: all helper methods
-    // Time Complexity: O(1)
-    // Space Complexity: O(1)
-
-    // Help Method 1: countDuplicates(int[] arr)
-    // Data Structure: Integer
-    // Count any duplicate cell in the given array
-    private static int countDuplicates(int[] arr) {
-        List<Integer> seen = new ArrayList<>(); // Use your ArrayList
-        int duplicates = 0;
-        for (int num : arr) {
-            if (num != 0) {
-                boolean found = false;
-                for (int i = 0; i < seen.size(); i++) {  // Iterate with index
-                    if (seen.get(i).equals(num)) { // Use .equals() for comparison
-                        found = true;
-                        break;
-                    }
-                }
-                if (found) {
-                    duplicates++;
-                }
-                seen.add(num);
-            }
-        }
-        return duplicates;
-    }
-
-    // Helper Method 2: getRow(int[][] board, int row)
-    // Data Structure: 1D Integer Array
-    // Get all the elements within the row of the board of shape (1x9, )
-    private static int[] getRow(int[][] board, int row) {
-        int[] r = new int[GRID_SIZE];
-        System.arraycopy(board[row], 0, r, 0, GRID_SIZE);
-        return r;
-    }
-
-    // Helper Method 3: getColumn(int[][] board, int col)
-    // Data Structure: 1D Integer Array
-    // Get all the elemtns within the column of the board of shape (9x1, )
-    private static int[] getColumn(int[][] board, int col) {
-        int[] column = new int[GRID_SIZE];
-        for (int i = 0; i < GRID_SIZE; i++) {
-            column[i] = board[i][col];
-        }
-        return column;
-    }
-
-    // Helper Method 4: getSubgrid(int[][] board, int startRow, int startCol)
-    // Data Structure: 1D Integer Array
-    // Get all elements within the 3x3 Subgrid of the board, order is all column 1st -> all row 2nd
-    private static int[] getSubgrid(int[][] board, int startRow, int startCol) {
-        int[] subgrid = new int[GRID_SIZE];
-        int index = 0;
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                subgrid[index++] = board[startRow + i][startCol + j];
-            }
-        }
-        return subgrid;
-    }
-
-    // Helper Method 5: getPossibleValues(int[][] board, int row, int col)
-    // Data Structure: List of Integer 
-    // Get all possible value for each position of Sudoku board, filled value should strictly follow Sudoku rule
-    private static List<Integer> getPossibleValues(int[][] board, int row, int col) {
-        List<Integer> possibleValues = new ArrayList<>();
-        for (int num = 1; num <= GRID_SIZE; num++) {
-            if (isValidPlacement(board, num, row, col)) {
-                possibleValues.add(num);
-            }
-        }
-        return possibleValues;
-    }
-
-    // Helper Method 6: isValidPlacement(int[][] board, int num, int row, int col)
-    // Data Structure: Boolean (True or False)
-    // Check if there is only single representation of number in Sudoku rows, columns and subgrids
-    private static boolean isValidPlacement(int[][] board, int num, int row, int col) {
-        for (int i = 0; i < GRID_SIZE; i++) {
-            if (board[row][i] == num || board[i][col] == num) return false;
-        }
-        int startRow = row - row % SUBGRID_SIZE;
-        int startCol = col - col % SUBGRID_SIZE;
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                if (board[startRow + i][startCol + j] == num) return false;
-            }
-        }
-        return true;
-    }
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(N^2)
 
-    // Helper Method 7: copyBoard(int[][] source)
+    // Helper Method 1: copyBoard(int[][] source)
     // Data Structure 1: 2D Integer Array
     // Copy the Sudoku board to another board
     private static int[][] copyBoard(int[][] source) {
-        int[][] destination = new int[GRID_SIZE][GRID_SIZE];
-        for (int i = 0; i < GRID_SIZE; i++) {
-            System.arraycopy(source[i], 0, destination[i], 0, GRID_SIZE);
+        int n = source.length;
+        int[][] destination = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(source[i], 0, destination[i], 0, n);
         }
         return destination;
     }
 
-    // Helper Method 8: printBoard(int[][] board)
+    // Helper Method 2: printBoard(int[][] board)
     // Data Structure: void
-    // Print the board in 9x9 representation
+    // Print the board in NxN representation
     public static void printBoard(int[][] board) {
         for (int[] row : board) {
             for (int num : row) {
@@ -423,72 +804,43 @@ public class SimpleGeneticSudokuSolver {
         }
     }
 
-    // Helper Method 9: printGAConfig(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS)
+    // Helper Method 3: printGAConfig(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS)
     public static void printGAConfig(int POPULATION_SIZE, double MUTATION_RATE, int MAX_GENERATIONS) {
         System.out.println("\nPopulation size: " + POPULATION_SIZE);
         System.out.println("Mutation rate: " + MUTATION_RATE);
         System.out.println("Maximum generations: " + MAX_GENERATIONS);
     }
 
-    // Helper Method 10: isValidSet(int[] arr)
-    private static boolean isValidSet(int[] arr) {
-        List<Integer> seen = new ArrayList<>(); // Using the provided ArrayList implementation
-        for (int num : arr) {
-            if (num < 1 || num > 9) return false;
-            boolean found = false;
-            for (int i = 0; i < seen.size(); i++) { // Iterate using index
-                if (seen.get(i).equals(num)) { // Use .equals() for Integer comparison
-                    found = true;
-                    break;
-                }
+    // Helper Method 4: sameBoard(int[][] a, int[][] b)
+    private static boolean sameBoard(int[][] a, int[][] b) {
+        if (a.length != b.length) return false;
+        for (int i = 0; i < a.length; i++) {
+            for (int j = 0; j < a.length; j++) {
+                if (a[i][j] != b[i][j]) return false;
             }
-            if (found) return false;
-            seen.add(num);
         }
-        return seen.size() == GRID_SIZE;
+        return true;
     }
 
-    // Helper Method 11: isCorrectSolved(int[][] board)
+    // Helper Method 5: isCorrectSolved(int[][] board)
+    // Bitmask check of every row, column and subgrid, see SudokuValidator for 9x9 and SudokuGeometry otherwise
     private static boolean isCorrectSolved(int[][] board) {
-        // Check rows
-        for (int i = 0; i < GRID_SIZE; i++) {
-            if (!isValidSet(getRow(board, i))) return false;
-        }
-
-        // Check columns
-        for (int i = 0; i < GRID_SIZE; i++) {
-            if (!isValidSet(getColumn(board, i))) return false;
+        if (board.length == GRID_SIZE) {
+            return VALIDATOR.get().isValid(board);
         }
-
-        // Check subgrids
-        for (int i = 0; i < SUBGRID_SIZE; i++) {
-            for (int j = 0; j < SUBGRID_SIZE; j++) {
-                if (!isValidSet(getSubgrid(board, i * SUBGRID_SIZE, j * SUBGRID_SIZE))) return false;
-            }
-        }
-
-        return true;
+        return SudokuGeometry.forGrid(board.length).isSolved(board);
     }
 
-    // Helper Method 12: SolveAndPrint(String level, int[][] board, int population_size, double mutation_rate, int max_generations, boolean print_board)
-    private static void SolveAndPrint(String level, int population_size, double mutation_rate, int max_generations, boolean print_board) {
-        List<int[][]> SudokuBoards = new ArrayList<>();
-
-        if (level.equals("Easy")) {
-            SudokuBoards = SudokuData.GetEasyBoards();
-        } else if (level.equals("Medium")) {
-            SudokuBoards = SudokuData.GetMediumBoards();
-        } else if (level.equals("Hard")) {
-            SudokuBoards = SudokuData.GetHardBoards();
-        } else if (level.equals("Very Hard")) {
-            SudokuBoards = SudokuData.GetVeryHardBoards();
-        }
+    // Helper Method 6: SolveAndPrint(String level, int[][] board, int population_size, double mutation_rate, int max_generations, boolean print_board, SolutionStore store)
+    private static void SolveAndPrint(String level, int population_size, double mutation_rate, int max_generations, boolean print_board, SolutionStore store) {
+        List<int[][]> SudokuBoards = SudokuData.GetBoards(level); // Unknown levels are rejected
 
         double totalTime = 0.0;
         int countSolve = 0;
 
         SimpleGeneticSudokuSolver SudokuSolver = new SimpleGeneticSudokuSolver(population_size,
                 mutation_rate, max_generations);
+        SudokuSolver.setSolutionStore(store);
 
         System.out.println("Genetic Algorithm Parameters for " + level + " Sudoku Board: ");
         printGAConfig(population_size, mutation_rate, max_generations);
@@ -531,12 +883,81 @@ public class SimpleGeneticSudokuSolver {
             System.out.println("\nTotal time for " + SudokuBoards.size() + " " + level + " Sudoku Boards: " + totalTime + " seconds");
     } 
 
+    // Helper Method 7: SolveCorpus(String input_path, String output_path, int population_size, double mutation_rate, int max_generations, SolutionStore store)
+    // With population_size 0 (the `route` argument) every puzzle goes through a SudokuRouter instead, which
+    // picks the exact engine or the GA preset of the puzzle's estimated difficulty
+    // Stream every puzzle of a one-line corpus file through the solver and write the best board of each
+    // A SolutionCache answers puzzles the corpus has already seen, up to symmetry
+    // Puzzles are parsed into one reusable buffer and solutions are written as they come, so memory stays
+    // constant regardless of the corpus size
+    private static void SolveCorpus(String input_path, String output_path, int population_size, double mutation_rate, int max_generations, SolutionStore store) throws IOException {
+        SolutionCache cache = new SolutionCache(100_000); // Corpora repeat puzzles, often as symmetric variants
+        SimpleGeneticSudokuSolver SudokuSolver = null;
+        SudokuRouter router = null;
+        if (population_size > 0) {
+            SudokuSolver = new SimpleGeneticSudokuSolver(population_size, mutation_rate, max_generations);
+            SudokuSolver.setSolutionCache(cache);
+            SudokuSolver.setSolutionStore(store);
+        } else {
+            router = new SudokuRouter(cache, store, true);
+        }
+        int countSolve = 0;
+        long startTime = System.currentTimeMillis();
+
+        try (SudokuCorpusReader reader = new SudokuCorpusReader(Paths.get(input_path));
+             SudokuCorpusWriter writer = new SudokuCorpusWriter(Paths.get(output_path))) {
+            int[][] puzzle;
+            while ((puzzle = reader.next()) != null) {
+                int[][] solution = router != null ? router.solve(puzzle) : SudokuSolver.solve(puzzle);
+                if (isCorrectSolved(solution)) {
+                    countSolve++;
+                }
+                writer.write(solution);
+            }
+            long endTime = System.currentTimeMillis();
+            if (router != null) {
+                System.out.println(router);
+            } else {
+                printGAConfig(population_size, mutation_rate, max_generations);
+            }
+            System.out.println("\nThe algorithm solve correctly " + countSolve + " out of " + reader.count() + " corpus Sudoku Boards");
+            System.out.println("Total time: " + (endTime - startTime) / 1000.0 + " seconds");
+            System.out.println(cache);
+        }
+    }
+
+    // Helper Method 8: report(String message)
+    // Print a line of the run report, unless the solver is quiet (setVerbose)
+    private void report(String message) {
+        if (verbose) {
+            System.out.println(message);
+        }
+    }
+
     //------------------------------------------------------------------------------------------------
     // Main code
-    public static void main(String[] args) {
+    // With no arguments, solve the built-in SudokuData sets
+    // With arguments <input> <output> [population_size mutation_rate max_generations], stream a corpus file
+    // through the GA, 1000 0.2 50 by default
+    // With arguments <input> <output> route, each puzzle is routed by its estimated difficulty instead (see
+    // SudokuRouter)
+    // With -Dsudoku.store=<dir>, solved puzzles are persisted in a SolutionStore in that directory
+    public static void main(String[] args) throws IOException {
+
+        String storeDir = System.getProperty("sudoku.store");
+        try (SolutionStore store = storeDir == null ? null : new SolutionStore(Paths.get(storeDir))) {
+            if (args.length >= 2) {
+                boolean route = args.length > 2 && args[2].equals("route");
+                int population_size = route ? 0 : args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+                double mutation_rate = args.length > 3 ? Double.parseDouble(args[3]) : 0.2;
+                int max_generations = args.length > 4 ? Integer.parseInt(args[4]) : 50;
+                SolveCorpus(args[0], args[1], population_size, mutation_rate, max_generations, store);
+                return;
+            }
 
-        SolveAndPrint("Easy", 100, 0.2, 10, false);
-        SolveAndPrint("Very Hard", 1000, 1.6, 50, true);
+            SolveAndPrint("Easy", 100, 0.2, 10, false, store);
+            SolveAndPrint("Very Hard", 1000, 1.6, 50, true, store);
+        }
 
     }
-}
\ No newline at end of file
+}
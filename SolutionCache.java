@@ -0,0 +1,97 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SolutionCache {
+
+    //------------------------------------------------------------------------------------------------
+    // Bounded LRU cache of solved puzzles, keyed by SudokuCanonicalForm
+    // Every symmetric variant of a cached puzzle (relabeled, rows/columns swapped within bands/stacks,
+    // bands/stacks swapped, transposed) hits the same entry, and the stored canonical solution is mapped
+    // back to the caller's orientation on the way out
+    // The least recently used entry is evicted once the cache holds `capacity` puzzles
+    // All methods are synchronized, so one cache can sit in front of several solvers
+    // Keys and values are PackedBoards, the canonical puzzle and its canonical solution
+    private final int capacity;
+    private final LinkedHashMap<PackedBoard, PackedBoard> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public SolutionCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<PackedBoard, PackedBoard>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PackedBoard, PackedBoard> eldest) {
+                if (size() > SolutionCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: get(SudokuCanonicalForm form)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Return the cached solution in the orientation of the puzzle `form` was built from, or null on a miss
+    public synchronized int[][] get(SudokuCanonicalForm form) {
+        PackedBoard solution = entries.get(new PackedBoard(form.cells()));
+        if (solution == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return form.fromCanonical(solution.toCells());
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: put(SudokuCanonicalForm form, int[][] solution)
+    // Data Structure: void
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Store the solution of the puzzle `form` was built from, callers only pass correct solutions
+    public synchronized void put(SudokuCanonicalForm form, int[][] solution) {
+        entries.put(new PackedBoard(form.cells()), new PackedBoard(form.toCanonical(solution)));
+    }
+
+    // Convenience lookups that canonicalize the puzzle themselves
+    public int[][] get(int[][] puzzle) {
+        return get(new SudokuCanonicalForm(puzzle));
+    }
+
+    public void put(int[][] puzzle, int[][] solution) {
+        put(new SudokuCanonicalForm(puzzle), solution);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Statistics
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "SolutionCache[size=" + entries.size() + "/" + capacity + ", hits=" + hits + ", misses=" + misses
+                + ", evictions=" + evictions + ", hit rate=" + String.format("%.1f%%", hitRate() * 100) + "]";
+    }
+}
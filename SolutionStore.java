@@ -0,0 +1,273 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class SolutionStore implements Closeable {
+
+    //------------------------------------------------------------------------------------------------
+    // Persistent store of solved puzzles, so restarts do not solve the same boards again
+    //
+    // solutions.log - append-only log: an 8-byte header, then fixed-size records of
+    //                 [puzzle: 41 bytes][solution: 41 bytes][CRC32 of both: 4 bytes]
+    //                 boards are in the PackedBoard byte form, two cells per byte, low nibble first
+    // solutions.idx - memory-mapped open-addressing hash table over the log: a 16-byte header
+    //                 [magic][slot count][record count], then one long per slot holding
+    //                 (upper 32 bits of the puzzle hash << 32) | (record number + 1), 0 for an empty slot
+    //
+    // Appends write the log record first and the index slot second. On open, the log is scanned and cut
+    // back to its last record with a valid CRC (a torn append from a crash), and the index is rebuilt from
+    // the log when its record count does not match. Lookups always compare the full puzzle against the
+    // log record, so a stale or colliding slot can never return a wrong solution
+    private static final int PACKED_SIZE = PackedBoard.BYTES;
+    private static final int RECORD_SIZE = 2 * PACKED_SIZE + 4;
+    private static final long LOG_MAGIC = 0x534F4C564C4F4731L; // "SOLVLOG1"
+    private static final int LOG_HEADER = 8;
+    private static final int INDEX_MAGIC = 0x534F4C49; // "SOLI"
+    private static final int INDEX_HEADER = 16;
+    private static final int INITIAL_SLOTS = 1 << 12;
+
+    private final FileChannel log;
+    private final FileChannel indexChannel;
+    private final boolean sync;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+    private MappedByteBuffer index;
+    private int slotCount;
+    private long recordCount;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - open or create the store in directory `dir`
+    // With sync set, every append is forced to disk before put returns
+    public SolutionStore(Path dir, boolean sync) throws IOException {
+        Files.createDirectories(dir);
+        this.sync = sync;
+        this.log = FileChannel.open(dir.resolve("solutions.log"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.indexChannel = FileChannel.open(dir.resolve("solutions.idx"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+    }
+
+    public SolutionStore(Path dir) throws IOException {
+        this(dir, false);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: get(int[][] puzzle)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(1) expected
+    // Space Complexity: O(1)
+    // Return the stored solution of the puzzle, or null if it was never stored
+    public synchronized int[][] get(int[][] puzzle) throws IOException {
+        byte[] packedPuzzle = pack(puzzle);
+        if (!find(packedPuzzle, hash(packedPuzzle))) {
+            return null;
+        }
+        return PackedBoard.fromBytes(record.array(), PACKED_SIZE).toBoard();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: put(int[][] puzzle, int[][] solution)
+    // Data Structure: void
+    // Time Complexity: O(1) amortized
+    // Space Complexity: O(1)
+    // Append a solved puzzle to the log and index it, puzzles already in the store are ignored
+    public synchronized void put(int[][] puzzle, int[][] solution) throws IOException {
+        byte[] packedPuzzle = pack(puzzle);
+        long hash = hash(packedPuzzle);
+        if (find(packedPuzzle, hash)) {
+            return;
+        }
+        record.clear();
+        System.arraycopy(packedPuzzle, 0, record.array(), 0, PACKED_SIZE);
+        new PackedBoard(solution).toBytes(record.array(), PACKED_SIZE);
+        crc.reset();
+        crc.update(record.array(), 0, 2 * PACKED_SIZE);
+        record.putInt(2 * PACKED_SIZE, (int) crc.getValue());
+        record.position(0).limit(RECORD_SIZE);
+        long position = LOG_HEADER + recordCount * RECORD_SIZE;
+        while (record.hasRemaining()) {
+            position += log.write(record, position);
+        }
+        if (sync) {
+            log.force(false);
+        }
+
+        if ((recordCount + 1) * 2 > slotCount) {
+            rebuildIndex(slotCount * 2);
+        }
+        insert(hash, recordCount);
+        recordCount++;
+        index.putLong(8, recordCount);
+    }
+
+    // Number of solved puzzles in the store
+    public synchronized long size() {
+        return recordCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        index.force();
+        index = null;
+        indexChannel.close();
+        log.close();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: recover()
+    // Validate the log, drop a torn tail, then reuse the index if it matches the log or rebuild it
+    // The index header is read before anything is mapped, so a stale index file can be cut back safely
+    private void recover() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER);
+        if (log.size() < LOG_HEADER) {
+            header.putLong(0, LOG_MAGIC);
+            log.write(header, 0);
+        } else {
+            log.read(header, 0);
+            if (header.getLong(0) != LOG_MAGIC) {
+                throw new IOException("Not a solution log");
+            }
+        }
+
+        long complete = (log.size() - LOG_HEADER) / RECORD_SIZE;
+        recordCount = 0;
+        while (recordCount < complete && readRecord(recordCount) && checksumMatches()) {
+            recordCount++;
+        }
+        log.truncate(LOG_HEADER + recordCount * RECORD_SIZE);
+
+        long indexSize = indexChannel.size();
+        if (indexSize >= INDEX_HEADER) {
+            ByteBuffer indexHeader = ByteBuffer.allocate(INDEX_HEADER);
+            indexChannel.read(indexHeader, 0);
+            int slots = indexHeader.getInt(4);
+            if (indexHeader.getInt(0) == INDEX_MAGIC && indexHeader.getLong(8) == recordCount
+                    && Integer.bitCount(slots) == 1 && indexSize == INDEX_HEADER + slots * 8L) {
+                index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize);
+                slotCount = slots;
+                return;
+            }
+        }
+        indexChannel.truncate(0); // Nothing of the index is mapped yet
+        int slots = INITIAL_SLOTS;
+        while (slots < recordCount * 2) {
+            slots *= 2;
+        }
+        rebuildIndex(slots);
+    }
+
+    // Helper Method 2: rebuildIndex(int slots)
+    // Grow the index file to the given slot count and re-insert every record of the log
+    // A MappedByteBuffer cannot be unmapped, so the file is never truncated under the current mapping: the
+    // larger mapping grows it and is cleared in full, the old mapping stays valid until it is collected
+    private void rebuildIndex(int slots) throws IOException {
+        long size = INDEX_HEADER + slots * 8L;
+        MappedByteBuffer rebuilt = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        for (int position = 0; position < size; position += 8) {
+            rebuilt.putLong(position, 0);
+        }
+        index = rebuilt;
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, slots);
+        slotCount = slots;
+        byte[] packedPuzzle = new byte[PACKED_SIZE];
+        for (long n = 0; n < recordCount; n++) {
+            readRecord(n);
+            System.arraycopy(record.array(), 0, packedPuzzle, 0, PACKED_SIZE);
+            insert(hash(packedPuzzle), n);
+        }
+        index.putLong(8, recordCount);
+    }
+
+    // Helper Method 3: insert(long hash, long recordNumber)
+    // Linear probing from the hash slot to the first empty slot
+    private void insert(long hash, long recordNumber) {
+        int mask = slotCount - 1;
+        int slot = (int) hash & mask;
+        while (index.getLong(slotOffset(slot)) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index.putLong(slotOffset(slot), (hash & 0xFFFFFFFF00000000L) | (recordNumber + 1));
+    }
+
+    // Helper Method 4: readRecord(long recordNumber)
+    // Read a full log record into `record`, false if the log ends first
+    private boolean readRecord(long recordNumber) throws IOException {
+        record.clear();
+        long position = LOG_HEADER + recordNumber * RECORD_SIZE;
+        while (record.hasRemaining()) {
+            int read = log.read(record, position);
+            if (read < 0) return false;
+            position += read;
+        }
+        return true;
+    }
+
+    // Helper Method 5: checksumMatches()
+    private boolean checksumMatches() {
+        crc.reset();
+        crc.update(record.array(), 0, 2 * PACKED_SIZE);
+        return record.getInt(2 * PACKED_SIZE) == (int) crc.getValue();
+    }
+
+    // Helper Method 6: puzzleMatches(byte[] packedPuzzle)
+    private boolean puzzleMatches(byte[] packedPuzzle) {
+        byte[] bytes = record.array();
+        for (int i = 0; i < PACKED_SIZE; i++) {
+            if (bytes[i] != packedPuzzle[i]) return false;
+        }
+        return true;
+    }
+
+    // Helper Method 7: hash(byte[] packed)
+    // 64-bit FNV-1a over the packed puzzle with a final avalanche
+    private static long hash(byte[] packed) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : packed) {
+            h = (h ^ (b & 0xFF)) * 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // Helper Method 8: find(byte[] packedPuzzle, long hash)
+    // Probe the index for the puzzle, true with its log record in `record` when it is stored
+    private boolean find(byte[] packedPuzzle, long hash) throws IOException {
+        int mask = slotCount - 1;
+        for (int slot = (int) hash & mask; ; slot = (slot + 1) & mask) {
+            long entry = index.getLong(slotOffset(slot));
+            if (entry == 0) {
+                return false;
+            }
+            if ((int) (entry >>> 32) == (int) (hash >>> 32)) {
+                long recordNumber = (entry & 0xFFFFFFFFL) - 1;
+                if (recordNumber < recordCount && readRecord(recordNumber) && puzzleMatches(packedPuzzle)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    // Helper Method 9: pack(int[][] board), the PackedBoard byte form of a board
+    private static byte[] pack(int[][] board) {
+        byte[] packed = new byte[PACKED_SIZE];
+        new PackedBoard(board).toBytes(packed, 0);
+        return packed;
+    }
+
+    // Helper Method 10: slotOffset(int slot), byte offset of an index slot, in long arithmetic
+    private static int slotOffset(int slot) {
+        return Math.toIntExact(INDEX_HEADER + slot * 8L);
+    }
+}
@@ -0,0 +1,790 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class SudokuBenchmark {
+
+    //------------------------------------------------------------------------------------------------
+    // Micro benchmarks for the performance-sensitive parts of the solver
+    // Run with: java SudokuBenchmark [name], where name selects one benchmark and no name runs them all
+    // Each benchmark warms up first so the JIT has compiled the measured code
+    private static final int GRID_SIZE = 9;
+    private static final int SUBGRID_SIZE = 3;
+    private static final int WARMUP_ROUNDS = 3;
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 1: validator
+    // Boards per second of SudokuValidator.validateCorpus, single thread and all cores
+    // The corpus is made of digit-relabeled copies of a valid board with every 100th board corrupted
+    private static void benchmarkValidator() throws InterruptedException {
+        int boardCount = 1_000_000;
+        byte[] corpus = new byte[boardCount * SudokuValidator.CELL_COUNT];
+        int[][] solved = patternBoard();
+        int[][] board = new int[GRID_SIZE][GRID_SIZE];
+        int[] relabel = new int[GRID_SIZE + 1];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int id = 0; id < boardCount; id++) {
+            shuffleDigits(relabel, random);
+            for (int i = 0; i < GRID_SIZE; i++) {
+                for (int j = 0; j < GRID_SIZE; j++) {
+                    board[i][j] = relabel[solved[i][j]];
+                }
+            }
+            if (id % 100 == 0) {
+                board[random.nextInt(GRID_SIZE)][random.nextInt(GRID_SIZE)] = 1 + random.nextInt(GRID_SIZE);
+            }
+            SudokuValidator.pack(board, corpus, id * SudokuValidator.CELL_COUNT);
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads : new int[] {1, cores}) {
+            int invalid = 0;
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                invalid = SudokuValidator.validateCorpus(corpus, boardCount, threads).length;
+            }
+            long startTime = System.nanoTime();
+            SudokuValidator.validateCorpus(corpus, boardCount, threads);
+            long elapsed = System.nanoTime() - startTime;
+            System.out.printf("validator: %d thread(s), %.1f M boards/s (%d invalid)%n",
+                    threads, boardCount / (elapsed / 1e9) / 1e6, invalid);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 2: canonical
+    // Canonicalizations per second of SudokuCanonicalForm over the SudokuData sets, and the cache hit rate
+    // when every puzzle is looked up again as a relabeled, transposed variant
+    private static void benchmarkCanonical() {
+        List<int[][]> puzzles = allBoards();
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (int i = 0; i < puzzles.size(); i++) new SudokuCanonicalForm(puzzles.get(i));
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < puzzles.size(); i++) new SudokuCanonicalForm(puzzles.get(i));
+        long elapsed = System.nanoTime() - startTime;
+        System.out.printf("canonical: %.0f puzzles/s%n", puzzles.size() / (elapsed / 1e9));
+
+        SolutionCache cache = new SolutionCache(puzzles.size());
+        int[][] solved = patternBoard();
+        for (int i = 0; i < puzzles.size(); i++) cache.put(puzzles.get(i), solved);
+        int[] relabel = new int[GRID_SIZE + 1];
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < puzzles.size(); i++) {
+            shuffleDigits(relabel, random);
+            int[][] puzzle = puzzles.get(i);
+            int[][] variant = new int[GRID_SIZE][GRID_SIZE];
+            for (int r = 0; r < GRID_SIZE; r++) {
+                for (int c = 0; c < GRID_SIZE; c++) {
+                    variant[c][r] = relabel[puzzle[r][c]];
+                }
+            }
+            cache.get(variant);
+        }
+        System.out.println("canonical: " + cache);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 3: grid
+    // Cost per cell of the SudokuGeometry fitness (conflicts) and candidate scan for 9x9, 16x16 and 25x25
+    // boards; with the precomputed unit and peer tables both should stay roughly flat as the grid grows
+    // The SudokuData large boards are checked once first: their givens must be conflict-free and solvable
+    private static void benchmarkGrid() {
+        List<int[][]> large = SudokuData.GetLargeBoards();
+        for (int i = 0; i < large.size(); i++) {
+            int[][] puzzle = large.get(i);
+            SudokuGeometry geometry = SudokuGeometry.forGrid(puzzle.length);
+            ExactSudokuSolver exact = new ExactSudokuSolver(puzzle.length);
+            long solutions = geometry.conflicts(puzzle) == 0 ? exact.countSolutions(puzzle, 2) : 0;
+            if (solutions == 0) {
+                throw new IllegalStateException("Large board " + (i + 1) + " (" + puzzle.length + "x"
+                        + puzzle.length + ") has inconsistent givens");
+            }
+            System.out.printf("grid: large board %d (%dx%d) is consistent, %s solution, %d nodes%n", i + 1,
+                    puzzle.length, puzzle.length, solutions == 1 ? "unique" : "not a unique", exact.nodes());
+        }
+
+        SplittableRandom random = new SplittableRandom(31);
+        for (int boxSize = 3; boxSize <= 5; boxSize++) {
+            SudokuGeometry geometry = SudokuGeometry.of(boxSize);
+            int boards = 2_000_000 / geometry.cellCount;
+            int[][][] data = new int[boards][geometry.size][geometry.size];
+            for (int[][] board : data) {
+                for (int[] row : board) {
+                    for (int j = 0; j < row.length; j++) row[j] = 1 + random.nextInt(geometry.size);
+                }
+            }
+
+            long sink = 0;
+            long fitnessTime = 0, candidateTime = 0;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                long startTime = System.nanoTime();
+                for (int[][] board : data) sink += geometry.conflicts(board);
+                long middleTime = System.nanoTime();
+                for (int[][] board : data) {
+                    for (int i = 0; i < geometry.size; i++) {
+                        sink += geometry.candidates(board, i, (i * 7) % geometry.size);
+                    }
+                }
+                long endTime = System.nanoTime();
+                fitnessTime = middleTime - startTime;
+                candidateTime = endTime - middleTime;
+            }
+            System.out.printf("grid: %dx%d fitness %.2f ns/cell, candidates %.2f ns/peer (%d)%n",
+                    geometry.size, geometry.size, (double) fitnessTime / ((long) boards * geometry.cellCount),
+                    (double) candidateTime / ((long) boards * geometry.size * geometry.peers[0].length), sink & 1);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 4: offheap
+    // Time per generation, heap growth and GC time of the off-heap PopulationBackend as the population grows
+    // from ten thousand to a million; the heap and GC columns should stay flat
+    // Skipped when optional/OffHeapPopulation.java was not compiled (see the README)
+    private static void benchmarkOffHeap() {
+        if (!PopulationBackend.offHeapAvailable()) {
+            System.out.println("offheap: skipped, the off-heap backend is not available on this JVM");
+            return;
+        }
+        int[][] puzzle = SudokuData.GetVeryHardBoards().get(0);
+        int generations = 2;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int populationSize : new int[] {10_000, 100_000, 1_000_000}) {
+            System.gc();
+            long heapBefore = memory.getHeapMemoryUsage().getUsed();
+            long gcBefore = gcMillis();
+            long startTime = System.nanoTime();
+            try (PopulationBackend population = PopulationBackend.offHeap(puzzle, populationSize)) {
+                population.evolve(0.05, generations, new SudokuRandom(1));
+            }
+            long elapsed = System.nanoTime() - startTime;
+            long heapGrowth = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+            System.out.printf("offheap: P=%d, %.0f ms/generation, heap +%d KB, GC %d ms%n", populationSize,
+                    elapsed / 1e6 / (generations + 1), heapGrowth / 1024, gcMillis() - gcBefore);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 5: batch
+    // Boards per second of per-board SudokuGeometry.conflicts against BatchFitnessEvaluator, scalar and
+    // vectorized (with the optional kernel and --add-modules jdk.incubator.vector), on 9x9 and 16x16 boards
+    // with empty cells; the batched rates include scattering the boards into the block, as the solver does
+    // Every batched fitness is first checked against SudokuGeometry.conflicts, a mismatch aborts the run
+    private static void benchmarkBatch() {
+        SplittableRandom random = new SplittableRandom(33);
+        int batch = 1024;
+        for (int boxSize = 3; boxSize <= 4; boxSize++) {
+            SudokuGeometry geometry = SudokuGeometry.of(boxSize);
+            int[][][] data = new int[batch][geometry.size][geometry.size];
+            for (int[][] board : data) {
+                for (int[] row : board) {
+                    for (int j = 0; j < row.length; j++) row[j] = random.nextInt(geometry.size + 1);
+                }
+            }
+
+            BatchFitnessEvaluator[] evaluators = {new BatchFitnessEvaluator(geometry, batch, false),
+                    new BatchFitnessEvaluator(geometry, batch, true)};
+            for (BatchFitnessEvaluator evaluator : evaluators) {
+                for (int i = 0; i < batch; i++) evaluator.setGenome(i, data[i]);
+                int[] fitness = evaluator.evaluate();
+                for (int i = 0; i < batch; i++) {
+                    if (fitness[i] != geometry.conflicts(data[i])) {
+                        throw new IllegalStateException("Batched fitness mismatch on board " + i);
+                    }
+                }
+            }
+
+            int rounds = 20_000_000 / geometry.cellCount / batch + 1;
+            long sink = 0;
+            long scalarTime = 0;
+            long[] batchTime = new long[evaluators.length];
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                long startTime = System.nanoTime();
+                for (int r = 0; r < rounds; r++) {
+                    for (int[][] board : data) sink += geometry.conflicts(board);
+                }
+                scalarTime = System.nanoTime() - startTime;
+                for (int e = 0; e < evaluators.length; e++) {
+                    startTime = System.nanoTime();
+                    for (int r = 0; r < rounds; r++) {
+                        for (int i = 0; i < batch; i++) evaluators[e].setGenome(i, data[i]);
+                        sink += evaluators[e].evaluate()[r % batch];
+                    }
+                    batchTime[e] = System.nanoTime() - startTime;
+                }
+            }
+            double boards = (double) rounds * batch;
+            System.out.printf("batch: %dx%d per-board %.1fM boards/s, batched scalar %.1fM boards/s, "
+                            + "batched %s %.1fM boards/s (%d)%n", geometry.size, geometry.size,
+                    boards / scalarTime * 1e3, boards / batchTime[0] * 1e3,
+                    evaluators[1].usesVector() ? "vector" : "scalar (no vector kernel)",
+                    boards / batchTime[1] * 1e3, sink & 1);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 6: steady
+    // Wall time of the generational loop against the steady-state mode with 1, 2, 4... threads up to the
+    // core count, same population and evaluation budget on a hard puzzle; every run spends the full budget
+    // unless it solves the puzzle first, so the time per evaluation is the sustained throughput
+    private static void benchmarkSteadyState() {
+        int[][] puzzle = SudokuData.GetVeryHardBoards().get(0);
+        int populationSize = 1000, generations = 30;
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 0; threads <= cores; threads = threads == 0 ? 1 : threads * 2) {
+            SimpleGeneticSudokuSolver solver = quietSolver(populationSize, 0.2, generations);
+            solver.setSeed(17);
+            solver.setSteadyState(threads);
+            long startTime = System.nanoTime();
+            solver.solve(puzzle);
+            System.out.printf("steady: %s %.0f ms%n", threads == 0 ? "generational" : threads + " threads",
+                    (System.nanoTime() - startTime) / 1e6);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 7: selection
+    // For every Selection scheme: nanoseconds per selection (prepare amortized over one generation of
+    // picks), then solved boards and mean generations to solution over the Medium boards, fixed seeds
+    private static void benchmarkSelection() {
+        String[] schemes = {"tournament:2", "tournament:5", "tournament:10", "sus", "rank", "truncation:0.2"};
+        int populationSize = 1000;
+        int[] fitness = new int[populationSize];
+        SplittableRandom data = new SplittableRandom(38);
+        for (int i = 0; i < populationSize; i++) fitness[i] = data.nextInt(60);
+        java.util.Arrays.sort(fitness);
+
+        List<int[][]> boards = SudokuData.GetMediumBoards();
+        for (String name : schemes) {
+            Selection selection = Selection.parse(name);
+            SudokuRandom random = new SudokuRandom(1);
+            long sink = 0;
+            long elapsed = 0;
+            int generations = 2000;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                long startTime = System.nanoTime();
+                for (int g = 0; g < generations; g++) {
+                    selection.prepare(fitness, populationSize);
+                    for (int i = 0; i < populationSize; i++) sink += selection.select(random);
+                }
+                elapsed = System.nanoTime() - startTime;
+            }
+
+            int solved = 0;
+            long generationSum = 0;
+            for (int i = 0; i < boards.size(); i++) {
+                SimpleGeneticSudokuSolver solver = quietSolver(populationSize, 0.2, 50);
+                solver.setSeed(i);
+                solver.setSelection(selection);
+                int[][] solution = solver.solve(boards.get(i));
+                if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) {
+                    solved++;
+                    generationSum += solver.lastGeneration();
+                }
+            }
+            System.out.printf("selection: %-15s %.1f ns/selection, solved %d/%d, %.1f generations (%d)%n", name,
+                    (double) elapsed / ((long) generations * populationSize), solved, boards.size(),
+                    solved == 0 ? 0.0 : (double) generationSum / solved, sink & 1);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 8: crossover
+    // For every SudokuCrossover operator: nanoseconds per child on 9x9 parents, then solved boards and mean
+    // generations to solution over the Medium boards, fixed seeds
+    private static void benchmarkCrossover() {
+        int[][] puzzle = SudokuData.GetMediumBoards().get(0);
+        SudokuRandom random = new SudokuRandom(39);
+        int[][][] parents = new int[64][][];
+        for (int i = 0; i < parents.length; i++) {
+            parents[i] = patternBoard();
+            for (int[] row : parents[i]) {
+                for (int j = 0; j < GRID_SIZE; j++) if (random.nextInt(4) == 0) row[j] = 1 + random.nextInt(GRID_SIZE);
+            }
+        }
+
+        List<int[][]> boards = SudokuData.GetMediumBoards();
+        for (SudokuCrossover crossover : SudokuCrossover.values()) {
+            long sink = 0;
+            long elapsed = 0;
+            int children = 500_000;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                long startTime = System.nanoTime();
+                for (int i = 0; i < children; i++) {
+                    sink += crossover.apply(parents[i & 63], parents[(i * 7 + 1) & 63], puzzle, random)[i % 9][0];
+                }
+                elapsed = System.nanoTime() - startTime;
+            }
+
+            int solved = 0;
+            long generationSum = 0;
+            for (int i = 0; i < boards.size(); i++) {
+                SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 50);
+                solver.setSeed(i);
+                solver.setCrossover(crossover);
+                int[][] solution = solver.solve(boards.get(i));
+                if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) {
+                    solved++;
+                    generationSum += solver.lastGeneration();
+                }
+            }
+            System.out.printf("crossover: %-7s %.1f ns/child, solved %d/%d, %.1f generations (%d)%n", crossover,
+                    (double) elapsed / children, solved, boards.size(),
+                    solved == 0 ? 0.0 : (double) generationSum / solved, sink & 1);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 9: adaptive
+    // Solve rate and time on the Hard and Very Hard boards at one fixed budget (population and generations)
+    // with a fixed mutation rate, self-adaptive rates, stagnation restarts and both, fixed seeds
+    private static void benchmarkAdaptive() {
+        List<int[][]> boards = new ArrayList<>();
+        List<?>[] sets = {SudokuData.GetHardBoards(), SudokuData.GetVeryHardBoards()};
+        for (List<?> set : sets) {
+            for (int i = 0; i < set.size(); i++) boards.add((int[][]) set.get(i));
+        }
+        String[] modes = {"fixed", "adaptive", "restart", "adaptive+restart"};
+        for (String mode : modes) {
+            int solved = 0;
+            long startTime = System.nanoTime();
+            for (int i = 0; i < boards.size(); i++) {
+                SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 60);
+                solver.setSeed(i);
+                solver.setAdaptiveMutation(mode.startsWith("adaptive"));
+                solver.setStagnationRestart(mode.endsWith("restart") ? 8 : 0);
+                int[][] solution = solver.solve(boards.get(i));
+                if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) solved++;
+            }
+            System.out.printf("adaptive: %-16s solved %d/%d in %.1f s%n", mode, solved, boards.size(),
+                    (System.nanoTime() - startTime) / 1e9);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 10: crowding
+    // Solved boards per CPU-second on the Hard and Very Hard boards with the top-half replacement against
+    // deterministic crowding (uniform and row crossover), same population and generations, fixed seeds;
+    // crowding also reports the mean parent distance of its last generation, the diversity it has kept
+    private static void benchmarkCrowding() {
+        List<int[][]> boards = new ArrayList<>();
+        List<?>[] sets = {SudokuData.GetHardBoards(), SudokuData.GetVeryHardBoards()};
+        for (List<?> set : sets) {
+            for (int i = 0; i < set.size(); i++) boards.add((int[][]) set.get(i));
+        }
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        String[] modes = {"top-half", "crowding", "crowding+row"};
+        for (String mode : modes) {
+            boolean crowding = mode.startsWith("crowding");
+            int solved = 0;
+            double diversity = 0;
+            long cpuBefore = threads.getCurrentThreadCpuTime();
+            for (int i = 0; i < boards.size(); i++) {
+                SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 200);
+                solver.setSeed(i);
+                solver.setCrowding(crowding);
+                if (mode.endsWith("row")) solver.setCrossover(SudokuCrossover.ROW);
+                int[][] solution = solver.solve(boards.get(i));
+                if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) solved++;
+                diversity += solver.lastDiversity();
+            }
+            double cpuSeconds = (threads.getCurrentThreadCpuTime() - cpuBefore) / 1e9;
+            System.out.printf("crowding: %-13s solved %d/%d, %.2f solves per CPU-second%s%n", mode, solved,
+                    boards.size(), solved / cpuSeconds,
+                    crowding ? String.format(", mean diversity %.1f cells", diversity / boards.size()) : "");
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 11: breeding
+    // Seeded solves of the Hard boards on the caller thread (0) and with 1, 2, 4 and 8 breeding threads: wall
+    // time, and whether the boards returned are identical to the caller-thread run (they must be, every child
+    // has its own stream)
+    private static void benchmarkBreeding() {
+        List<int[][]> boards = SudokuData.GetHardBoards();
+        int[] threadCounts = {0, 1, 2, 4, 8};
+        int[][][] reference = new int[boards.size()][][];
+        for (int threads : threadCounts) {
+            boolean identical = true;
+            long startTime = System.nanoTime();
+            for (int i = 0; i < boards.size(); i++) {
+                int[][] solution;
+                try (SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 30)) {
+                    solver.setSeed(i);
+                    solver.setBreedingThreads(threads);
+                    solution = solver.solve(boards.get(i));
+                }
+                if (reference[i] == null) {
+                    reference[i] = solution;
+                } else {
+                    identical &= Arrays.deepEquals(reference[i], solution);
+                }
+            }
+            System.out.printf("breeding: %d threads %.2f s, same boards as 0 threads: %b%n", threads,
+                    (System.nanoTime() - startTime) / 1e9, identical);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 12: ranked
+    // Seeded solves of every SudokuData board with the per-generation population sort against the
+    // bounded elite heap (setRankedElites): solved boards and wall time at the same budget
+    private static void benchmarkRanked() {
+        List<int[][]> boards = allBoards();
+        String[] modes = {"sort", "ranked-heap"};
+        for (String mode : modes) {
+            int solved = 0;
+            long startTime = System.nanoTime();
+            for (int i = 0; i < boards.size(); i++) {
+                SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 50);
+                solver.setSeed(i);
+                solver.setRankedElites(mode.equals("ranked-heap"));
+                int[][] solution = solver.solve(boards.get(i));
+                if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) solved++;
+            }
+            System.out.printf("ranked: %-11s solved %d/%d in %.2f s%n", mode, solved, boards.size(),
+                    (System.nanoTime() - startTime) / 1e9);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 13: engine
+    // The default GA (budget 1000 0.2 50, uniform crossover, tournament selection, half elites) on every
+    // SudokuData board, before and after the generational loop moved into GeneticEngine:
+    //   old-loop         - the solver's former loop (oldLoop below): boards, bubble sort, one random sequence
+    //   solver           - SimpleGeneticSudokuSolver, now a SudokuProblem adapter over GeneticEngine
+    //   engine           - GeneticEngine with the SudokuProblem plugin directly, no solver around it
+    //   engine-4-threads - the same on 4 breeding threads, same result
+    // Solved boards, generations per second and wall time; the runs draw different random numbers before
+    // and after, so the solved counts differ by chance, the generation rate is the comparison
+    private static void benchmarkEngine() {
+        List<int[][]> boards = allBoards();
+        String[] modes = {"old-loop", "solver", "engine", "engine-4-threads"};
+        for (int round = 0; round < 2; round++) { // The first round warms up the JIT
+            for (String mode : modes) {
+                int solved = 0;
+                long generations = 0;
+                long startTime = System.nanoTime();
+                for (int i = 0; i < boards.size(); i++) {
+                    int[][] solution;
+                    if (mode.equals("old-loop")) {
+                        int[] lastGeneration = new int[1];
+                        solution = oldLoop(boards.get(i), i, 1000, 0.2, 50, lastGeneration);
+                        generations += lastGeneration[0];
+                    } else if (mode.equals("solver")) {
+                        SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 50);
+                        solver.setSeed(i);
+                        solution = solver.solve(boards.get(i));
+                        generations += solver.lastGeneration();
+                    } else {
+                        SudokuProblem problem = new SudokuProblem(boards.get(i));
+                        try (GeneticEngine engine = new GeneticEngine(problem, problem, problem, problem, 1000,
+                                0.2, 50)) {
+                            engine.setSeed(i);
+                            engine.setThreads(mode.equals("engine") ? 0 : 4);
+                            solution = problem.toBoard(engine.run());
+                            generations += engine.lastGeneration();
+                        }
+                    }
+                    if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) solved++;
+                }
+                double seconds = (System.nanoTime() - startTime) / 1e9;
+                if (round == 1) {
+                    System.out.printf("engine: %-16s solved %d/%d, %.0f generations/s, %.2f s%n", mode, solved,
+                            boards.size(), generations / seconds, seconds);
+                }
+            }
+        }
+    }
+
+    // Support Method: oldLoop(int[][] puzzle, long seed, int populationSize, double mutationRate, int maxGenerations, int[] lastGeneration)
+    // The default generational loop of SimpleGeneticSudokuSolver before GeneticEngine took it over, kept as
+    // the baseline of the engine benchmark: N x N boards, a bubble sort of the population each generation,
+    // parents selected and children bred one after the other from a single random sequence
+    private static int[][] oldLoop(int[][] puzzle, long seed, int populationSize, double mutationRate,
+                                   int maxGenerations, int[] lastGeneration) {
+        SudokuGeometry geometry = SudokuGeometry.forGrid(puzzle.length);
+        SudokuRandom random = new SudokuRandom(seed);
+        Selection selection = Selection.tournament(5);
+        int elites = populationSize / 2;
+        int[][][] population = new int[populationSize][][];
+        int[] fitness = new int[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            population[i] = oldRandomBoard(geometry, puzzle, random);
+            fitness[i] = geometry.conflicts(population[i]);
+        }
+        int[][][] next = new int[populationSize][][];
+        int[] nextFitness = new int[populationSize];
+        for (int generation = 0; generation < maxGenerations; generation++) {
+            for (int i = 0; i < populationSize - 1; i++) { // Bubble sort by fitness
+                boolean swapped = false;
+                for (int j = 0; j < populationSize - i - 1; j++) {
+                    if (fitness[j] > fitness[j + 1]) {
+                        int[][] board = population[j];
+                        population[j] = population[j + 1];
+                        population[j + 1] = board;
+                        int score = fitness[j];
+                        fitness[j] = fitness[j + 1];
+                        fitness[j + 1] = score;
+                        swapped = true;
+                    }
+                }
+                if (!swapped) break;
+            }
+            if (fitness[0] == 0) {
+                lastGeneration[0] = generation;
+                return population[0];
+            }
+            System.arraycopy(population, 0, next, 0, elites);
+            System.arraycopy(fitness, 0, nextFitness, 0, elites);
+            selection.prepare(fitness, populationSize);
+            for (int c = elites; c < populationSize; c++) {
+                int[][] parent1 = population[selection.select(random)];
+                int[][] parent2 = population[selection.select(random)];
+                next[c] = oldMutate(geometry, puzzle, SudokuCrossover.UNIFORM.apply(parent1, parent2, puzzle,
+                        random), mutationRate, random);
+                nextFitness[c] = geometry.conflicts(next[c]);
+            }
+            int[][][] boards = population;
+            population = next;
+            next = boards;
+            int[] scores = fitness;
+            fitness = nextFitness;
+            nextFitness = scores;
+        }
+        lastGeneration[0] = maxGenerations;
+        return population[0];
+    }
+
+    // Support Method: oldRandomBoard(SudokuGeometry geometry, int[][] puzzle, SudokuRandom random)
+    // The former generateRandomFilledBoard
+    private static int[][] oldRandomBoard(SudokuGeometry geometry, int[][] puzzle, SudokuRandom random) {
+        int[][] board = new int[geometry.size][];
+        for (int i = 0; i < geometry.size; i++) {
+            board[i] = puzzle[i].clone();
+        }
+        for (int i = 0; i < geometry.size; i++) {
+            for (int j = 0; j < geometry.size; j++) {
+                if (board[i][j] == 0) {
+                    long possible = geometry.candidates(board, i, j);
+                    board[i][j] = possible != 0
+                            ? SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)))
+                            : 1 + random.nextInt(geometry.size); // Fallback
+                }
+            }
+        }
+        return board;
+    }
+
+    // Support Method: oldMutate(SudokuGeometry geometry, int[][] puzzle, int[][] board, double rate, SudokuRandom random)
+    // The former mutate
+    private static int[][] oldMutate(SudokuGeometry geometry, int[][] puzzle, int[][] board, double rate,
+                                     SudokuRandom random) {
+        for (int i = 0; i < geometry.size; i++) {
+            for (int j = 0; j < geometry.size; j++) {
+                if (puzzle[i][j] == 0 && random.nextDouble() < rate) {
+                    long possible = geometry.candidates(board, i, j);
+                    if (possible != 0) {
+                        board[i][j] = SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)));
+                    }
+                }
+            }
+        }
+        return board;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 14: kernel
+    // Conflict counting per 9x9 board: the general SudokuGeometry unit loop against the SudokuTables
+    // kernels on int[][] and flat boards, and the bounded SudokuTables kernel with a bound of 4
+    private static void benchmarkKernel() {
+        SudokuGeometry geometry = SudokuGeometry.forGrid(GRID_SIZE);
+        SudokuRandom random = new SudokuRandom(49);
+        int count = 4096;
+        int[][][] boards = new int[count][GRID_SIZE][GRID_SIZE];
+        int[][] flat = new int[count][GRID_SIZE * GRID_SIZE];
+        for (int b = 0; b < count; b++) {
+            for (int cell = 0; cell < GRID_SIZE * GRID_SIZE; cell++) {
+                int value = 1 + random.nextInt(GRID_SIZE);
+                boards[b][cell / GRID_SIZE][cell % GRID_SIZE] = value;
+                flat[b][cell] = value;
+            }
+        }
+        String[] kernels = {"geometry", "tables", "tables-flat", "tables-bound-4"};
+        for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+            for (String kernel : kernels) {
+                long checksum = 0;
+                long startTime = System.nanoTime();
+                for (int repeat = 0; repeat < 100; repeat++) {
+                    if (kernel.equals("geometry")) {
+                        for (int[][] board : boards) checksum += geometry.unitConflicts(board, Integer.MAX_VALUE);
+                    } else if (kernel.equals("tables")) {
+                        for (int[][] board : boards) checksum += SudokuTables.conflicts(board);
+                    } else if (kernel.equals("tables-bound-4")) {
+                        for (int[][] board : boards) checksum += SudokuTables.conflicts(board, 4);
+                    } else {
+                        for (int[] cells : flat) checksum += SudokuTables.conflicts(cells);
+                    }
+                }
+                if (round == WARMUP_ROUNDS) {
+                    System.out.printf("kernel: %-14s %.1f ns per board (checksum %d)%n", kernel,
+                            (System.nanoTime() - startTime) / (100.0 * count), checksum);
+                }
+            }
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 15: difficulty
+    // The DifficultyEstimator class of every SudokuData board against its set, and the GA solve rate of each
+    // class (population 1000, mutation rate 0.2, 50 generations, seeds 0-3): a check that the classes order
+    // the boards by how hard they are for the GA
+    private static void benchmarkDifficulty() {
+        String[] levels = {"Easy", "Medium", "Hard", "Very Hard"};
+        int classes = DifficultyEstimator.Difficulty.values().length;
+        int[] runs = new int[classes];
+        int[] solved = new int[classes];
+        for (String level : levels) {
+            int[] counts = new int[classes];
+            for (int[][] board : SudokuData.GetBoards(level)) {
+                int difficulty = new DifficultyEstimator(board).difficulty.ordinal();
+                counts[difficulty]++;
+                for (int seed = 0; seed < 4; seed++) {
+                    SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 50);
+                    solver.setSeed(seed);
+                    int[][] solution = solver.solve(board);
+                    runs[difficulty]++;
+                    if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) solved[difficulty]++;
+                }
+            }
+            StringBuilder line = new StringBuilder(String.format("difficulty: %-9s ->", level));
+            for (DifficultyEstimator.Difficulty difficulty : DifficultyEstimator.Difficulty.values()) {
+                line.append(' ').append(difficulty).append('=').append(counts[difficulty.ordinal()]);
+            }
+            System.out.println(line);
+        }
+        for (DifficultyEstimator.Difficulty difficulty : DifficultyEstimator.Difficulty.values()) {
+            int d = difficulty.ordinal();
+            System.out.printf("difficulty: %-9s GA solved %d/%d%n", difficulty, solved[d], runs[d]);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Benchmark 16: bounded
+    // Seeded solves of every SudokuData board, 4 seeds each, with full and with bounded child fitness
+    // (setBoundedFitness): solved runs and wall time at the same budget. Rejected children stay in the
+    // population, so the solve rate must not drop while the fitness time does
+    private static void benchmarkBounded() {
+        List<int[][]> boards = allBoards();
+        String[] modes = {"full", "bounded"};
+        for (int round = 0; round < 2; round++) { // The first round warms up the JIT
+            for (String mode : modes) {
+                int solved = 0;
+                long generations = 0;
+                long startTime = System.nanoTime();
+                for (int i = 0; i < boards.size(); i++) {
+                    for (int seed = 0; seed < 4; seed++) {
+                        SimpleGeneticSudokuSolver solver = quietSolver(1000, 0.2, 50);
+                        solver.setSeed(4 * i + seed);
+                        solver.setBoundedFitness(mode.equals("bounded"));
+                        int[][] solution = solver.solve(boards.get(i));
+                        if (SudokuGeometry.forGrid(solution.length).isSolved(solution)) solved++;
+                        generations += solver.lastGeneration();
+                    }
+                }
+                double seconds = (System.nanoTime() - startTime) / 1e9;
+                if (round == 1) {
+                    System.out.printf("bounded: %-7s solved %d/%d, %.0f generations/s, %.2f s%n", mode, solved,
+                            4 * boards.size(), generations / seconds, seconds);
+                }
+            }
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: gcMillis()
+    // Total collection time of every garbage collector so far
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    // Helper Method 2: quietSolver(int populationSize, double mutationRate, int maxGenerations)
+    // A solver that does not print its run report, which would otherwise mix into the benchmark output and
+    // the timings
+    private static SimpleGeneticSudokuSolver quietSolver(int populationSize, double mutationRate,
+                                                         int maxGenerations) {
+        SimpleGeneticSudokuSolver solver = new SimpleGeneticSudokuSolver(populationSize, mutationRate,
+                maxGenerations);
+        solver.setVerbose(false);
+        return solver;
+    }
+
+    // Helper Method 3: allBoards()
+    // Every built-in SudokuData puzzle in one list
+    private static List<int[][]> allBoards() {
+        List<int[][]> boards = new ArrayList<>();
+        List<?>[] sets = {SudokuData.GetEasyBoards(), SudokuData.GetMediumBoards(),
+                SudokuData.GetHardBoards(), SudokuData.GetVeryHardBoards()};
+        for (List<?> set : sets) {
+            for (int i = 0; i < set.size(); i++) {
+                boards.add((int[][]) set.get(i));
+            }
+        }
+        return boards;
+    }
+
+    // Helper Method 4: patternBoard()
+    // A valid solved board built from the shifted-row pattern
+    private static int[][] patternBoard() {
+        int[][] board = new int[GRID_SIZE][GRID_SIZE];
+        for (int i = 0; i < GRID_SIZE; i++) {
+            for (int j = 0; j < GRID_SIZE; j++) {
+                board[i][j] = (i * SUBGRID_SIZE + i / SUBGRID_SIZE + j) % GRID_SIZE + 1;
+            }
+        }
+        return board;
+    }
+
+    // Helper Method 5: shuffleDigits(int[] relabel, SplittableRandom random)
+    // Fill relabel[1..9] with a random permutation of the digits 1..9
+    private static void shuffleDigits(int[] relabel, SplittableRandom random) {
+        for (int d = 1; d <= GRID_SIZE; d++) {
+            relabel[d] = d;
+        }
+        for (int d = GRID_SIZE; d > 1; d--) {
+            int k = 1 + random.nextInt(d);
+            int temp = relabel[d];
+            relabel[d] = relabel[k];
+            relabel[k] = temp;
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    public static void main(String[] args) throws Exception {
+        String name = args.length > 0 ? args[0] : "all";
+        if (name.equals("all") || name.equals("validator")) benchmarkValidator();
+        if (name.equals("all") || name.equals("canonical")) benchmarkCanonical();
+        if (name.equals("all") || name.equals("grid")) benchmarkGrid();
+        if (name.equals("all") || name.equals("offheap")) benchmarkOffHeap();
+        if (name.equals("all") || name.equals("batch")) benchmarkBatch();
+        if (name.equals("all") || name.equals("steady")) benchmarkSteadyState();
+        if (name.equals("all") || name.equals("selection")) benchmarkSelection();
+        if (name.equals("all") || name.equals("crossover")) benchmarkCrossover();
+        if (name.equals("all") || name.equals("adaptive")) benchmarkAdaptive();
+        if (name.equals("all") || name.equals("crowding")) benchmarkCrowding();
+        if (name.equals("all") || name.equals("breeding")) benchmarkBreeding();
+        if (name.equals("all") || name.equals("ranked")) benchmarkRanked();
+        if (name.equals("all") || name.equals("engine")) benchmarkEngine();
+        if (name.equals("all") || name.equals("kernel")) benchmarkKernel();
+        if (name.equals("all") || name.equals("difficulty")) benchmarkDifficulty();
+        if (name.equals("all") || name.equals("bounded")) benchmarkBounded();
+    }
+}
@@ -0,0 +1,210 @@
+import java.util.Arrays;
+
+public class SudokuCanonicalForm {
+
+    //------------------------------------------------------------------------------------------------
+    // Canonical form of a 9x9 puzzle under the Sudoku symmetries that keep solutions valid:
+    // transpose, band swaps, row swaps within a band, stack swaps, column swaps within a stack and
+    // digit relabeling
+    // The canonical puzzle is the lexicographically smallest row-major grid reachable with those moves,
+    // where digits are relabeled 1, 2, 3... in order of first appearance and empty cells (0) sort first
+    // Two puzzles get the same key iff one is a symmetric variant of the other, and the transform found
+    // here maps solutions in both directions between the caller's orientation and the canonical one
+    //
+    // The search runs over the 2 * 6^4 row arrangements (transpose, band order, row order in each band)
+    // and, for each one, a depth-first search over the column arrangement that prunes every branch whose
+    // first row is already larger than the best grid found so far
+    private static final int GRID_SIZE = 9;
+    private static final int SUBGRID_SIZE = 3;
+    private static final int CELL_COUNT = GRID_SIZE * GRID_SIZE;
+    private static final int[][] PERMUTATIONS_3 = {
+            {0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}
+    };
+
+    // Transform: canonical[r][c] = relabel[source[rowMap[r]][colMap[c]]], source is the transposed
+    // puzzle when transposed is set
+    private boolean transposed;
+    private final int[] rowMap = new int[GRID_SIZE];
+    private final int[] colMap = new int[GRID_SIZE];
+    private final int[] relabel = new int[GRID_SIZE + 1];
+    private final int[] unlabel = new int[GRID_SIZE + 1];
+    private final int[] canonical = new int[CELL_COUNT];
+
+    // Search state, only used while constructing
+    private final int[][] grid = new int[GRID_SIZE][GRID_SIZE];
+    private final int[] rowOrder = new int[GRID_SIZE];
+    private final int[] colOrder = new int[GRID_SIZE];
+    private final int[] labels = new int[GRID_SIZE + 1];
+    private final int[] leafLabels = new int[GRID_SIZE + 1];
+    private final int[] candidate = new int[CELL_COUNT];
+    private boolean candidateTransposed;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - find the canonical form of the given 9x9 puzzle (0 for empty cells)
+    public SudokuCanonicalForm(int[][] puzzle) {
+        Arrays.fill(canonical, Integer.MAX_VALUE);
+        for (int t = 0; t < 2; t++) {
+            candidateTransposed = t == 1;
+            for (int[] bands : PERMUTATIONS_3) {
+                for (int[] rows0 : PERMUTATIONS_3) {
+                    for (int[] rows1 : PERMUTATIONS_3) {
+                        for (int[] rows2 : PERMUTATIONS_3) {
+                            fillRowOrder(bands, rows0, rows1, rows2);
+                            for (int r = 0; r < GRID_SIZE; r++) {
+                                for (int c = 0; c < GRID_SIZE; c++) {
+                                    grid[r][c] = candidateTransposed ? puzzle[c][rowOrder[r]] : puzzle[rowOrder[r]][c];
+                                }
+                            }
+                            Arrays.fill(labels, 0);
+                            searchColumns(0, 0, 1);
+                        }
+                    }
+                }
+            }
+        }
+        completeRelabel();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: cells()
+    // Data Structure: 1D Integer Array
+    // The canonical puzzle as 81 values in row-major order, shared, callers must not modify it
+    public int[] cells() {
+        return canonical;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: toCanonical(int[][] board)
+    // Data Structure: 1D Integer Array
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Map a board in the caller's orientation (e.g. a solution of the puzzle) to canonical orientation
+    public int[] toCanonical(int[][] board) {
+        int[] result = new int[CELL_COUNT];
+        for (int r = 0; r < GRID_SIZE; r++) {
+            for (int c = 0; c < GRID_SIZE; c++) {
+                int value = transposed ? board[colMap[c]][rowMap[r]] : board[rowMap[r]][colMap[c]];
+                result[r * GRID_SIZE + c] = relabel[value];
+            }
+        }
+        return result;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: fromCanonical(int[] cells)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Map a row-major board in canonical orientation back to the caller's orientation
+    public int[][] fromCanonical(int[] cells) {
+        int[][] board = new int[GRID_SIZE][GRID_SIZE];
+        for (int r = 0; r < GRID_SIZE; r++) {
+            for (int c = 0; c < GRID_SIZE; c++) {
+                int value = unlabel[cells[r * GRID_SIZE + c]];
+                if (transposed) {
+                    board[colMap[c]][rowMap[r]] = value;
+                } else {
+                    board[rowMap[r]][colMap[c]] = value;
+                }
+            }
+        }
+        return board;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: fillRowOrder(int[] bands, int[] rows0, int[] rows1, int[] rows2)
+    // Row arrangement for a band order and one row order per band (indexed by canonical band position)
+    private void fillRowOrder(int[] bands, int[] rows0, int[] rows1, int[] rows2) {
+        int[][] rows = {rows0, rows1, rows2};
+        for (int b = 0; b < SUBGRID_SIZE; b++) {
+            for (int i = 0; i < SUBGRID_SIZE; i++) {
+                rowOrder[b * SUBGRID_SIZE + i] = bands[b] * SUBGRID_SIZE + rows[b][i];
+            }
+        }
+    }
+
+    // Helper Method 2: searchColumns(int position, int used, int nextLabel)
+    // Depth-first choice of the source column for canonical column `position`
+    // Columns 0, 3, 6 open a stack that is still unused, the others come from the stack of their group
+    // A branch is pruned as soon as its first row is larger than the first row of the best grid so far
+    private void searchColumns(int position, int used, int nextLabel) {
+        if (position == GRID_SIZE) {
+            evaluateLeaf(nextLabel);
+            return;
+        }
+        boolean opensStack = position % SUBGRID_SIZE == 0;
+        int from = opensStack ? 0 : colOrder[position - 1] / SUBGRID_SIZE * SUBGRID_SIZE;
+        int to = opensStack ? GRID_SIZE : from + SUBGRID_SIZE;
+        for (int col = from; col < to; col++) {
+            if (opensStack) {
+                if (((used >> (col / SUBGRID_SIZE * SUBGRID_SIZE)) & 7) != 0) continue;
+            } else if ((used & (1 << col)) != 0) {
+                continue;
+            }
+
+            int value = grid[0][col];
+            boolean fresh = value != 0 && labels[value] == 0;
+            if (fresh) labels[value] = nextLabel;
+            candidate[position] = labels[value];
+
+            if (comparePrefix(position) <= 0) {
+                colOrder[position] = col;
+                searchColumns(position + 1, used | (1 << col), fresh ? nextLabel + 1 : nextLabel);
+            }
+            if (fresh) labels[value] = 0;
+        }
+    }
+
+    // Helper Method 3: comparePrefix(int position)
+    // Compare candidate[0..position] with the same cells of the best grid, -1, 0 or 1
+    private int comparePrefix(int position) {
+        for (int cell = 0; cell <= position; cell++) {
+            if (candidate[cell] != canonical[cell]) {
+                return candidate[cell] < canonical[cell] ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    // Helper Method 4: evaluateLeaf(int nextLabel)
+    // Complete the candidate grid for the current row and column arrangement, keep it if it is smaller
+    // On a tie the first transform found is kept
+    private void evaluateLeaf(int nextLabel) {
+        System.arraycopy(labels, 0, leafLabels, 0, labels.length);
+        boolean smaller = false;
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int value = grid[cell / GRID_SIZE][colOrder[cell % GRID_SIZE]];
+            if (value != 0 && leafLabels[value] == 0) leafLabels[value] = nextLabel++;
+            int label = leafLabels[value];
+            if (!smaller) {
+                if (label > canonical[cell]) return;
+                if (label < canonical[cell]) smaller = true;
+            }
+            candidate[cell] = label;
+        }
+        if (!smaller) return;
+
+        System.arraycopy(candidate, 0, canonical, 0, CELL_COUNT);
+        System.arraycopy(leafLabels, 0, relabel, 0, relabel.length);
+        System.arraycopy(rowOrder, 0, rowMap, 0, GRID_SIZE);
+        System.arraycopy(colOrder, 0, colMap, 0, GRID_SIZE);
+        transposed = candidateTransposed;
+    }
+
+    // Helper Method 5: completeRelabel()
+    // Give the digits that never appear in the puzzle the remaining labels, so relabel is a bijection
+    private void completeRelabel() {
+        int next = 1;
+        for (int d = 1; d <= GRID_SIZE; d++) {
+            if (relabel[d] >= next) next = relabel[d] + 1;
+        }
+        for (int d = 1; d <= GRID_SIZE; d++) {
+            if (relabel[d] == 0) relabel[d] = next++;
+        }
+        for (int d = 0; d <= GRID_SIZE; d++) {
+            unlabel[relabel[d]] = d;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+
+public class SudokuCheckpoint {
+
+    //------------------------------------------------------------------------------------------------
+    // Binary checkpoint of the full GA state of SimpleGeneticSudokuSolver at the start of a generation
+    //
+    // Layout (big-endian):
+    //   [magic: int][version: int]
+    //   [POPULATION_SIZE: int][MUTATION_RATE: double][MAX_GENERATIONS: int]
+    //   [elite fraction: double][crossover: byte][mode flags: byte][stagnation limit: int]
+    //   [breeding threads: int][selection: short length, then the UTF-8 name Selection.parse reads]
+    //   [generation: int][RNG state: long][best fitness so far: int][stagnant generations: int]
+    //   [puzzle: 41 bytes]
+    //   [individual count: int] then per individual [board: 41 bytes][fitness: short][mutation rate: double]
+    //   [CRC32 of everything before it: int]
+    // The mode flags are ADAPTIVE, CROWDING, BOUNDED and RANKED_ELITES below, the crossover is the ordinal
+    // of its SudokuCrossover. The breeding threads are informational: every thread count, 0 included,
+    // breeds the same children, so a resume keeps the solver's own
+    // Version 1 and 2 files are still read. They hold no operator configuration (selection is null), so a
+    // resume keeps the solver's own. Version 1 files also lack the stagnation state and the per-individual
+    // rates: their individuals get MUTATION_RATE and the stagnation counter starts over
+    // Boards are in the PackedBoard byte form, two cells per byte, low nibble first
+    //
+    // Restoring the population, the RNG state and the generation counter and running the same loop gives
+    // bit-for-bit the same run as if it had never stopped
+    private static final int PACKED_SIZE = PackedBoard.BYTES;
+    private static final int MAGIC = 0x47414350; // "GACP"
+    private static final int VERSION = 3;
+    private static final int CONFIGURATION_SIZE = 8 + 1 + 1 + 4 + 4 + 2;
+    private static final int V2_HEADER_SIZE = 4 + 4 + 4 + 8 + 4 + 4 + 8 + 4 + 4 + PACKED_SIZE + 4;
+    private static final int INDIVIDUAL_SIZE = PACKED_SIZE + 2 + 8;
+    private static final int V1_HEADER_SIZE = V2_HEADER_SIZE - 8;
+    private static final int V1_INDIVIDUAL_SIZE = PACKED_SIZE + 2;
+    static final int ADAPTIVE = 1;
+    static final int CROWDING = 2;
+    static final int BOUNDED = 4;
+    static final int RANKED_ELITES = 8;
+
+    int populationSize;
+    double mutationRate;
+    int maxGenerations;
+    double eliteFraction;
+    SudokuCrossover crossover;
+    int flags;
+    int stagnationLimit;
+    int breedingThreads;
+    Selection selection;
+    int generation;
+    long randomState;
+    int bestFitness;
+    int stagnantGenerations;
+    int[][] puzzle;
+    PackedBoard[] boards;
+    int[] fitness;
+    double[] mutationRates;
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: size(int individuals, Selection selection)
+    // Data Structure: Integer
+    // Encoded size in bytes of a checkpoint holding the given number of individuals and selection scheme
+    public static int size(int individuals, Selection selection) {
+        return V2_HEADER_SIZE + CONFIGURATION_SIZE + name(selection).length + individuals * INDIVIDUAL_SIZE + 4;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: writeHeader(...) / writeIndividual(...) / finish(...)
+    // Data Structure: void
+    // Time Complexity: O(1) per call
+    // Space Complexity: O(1)
+    // Encode a checkpoint straight into a buffer, the solver calls writeHeader, writeConfiguration and
+    // writeState, then writeIndividual once per member of the population, then finish
+    public static void writeHeader(ByteBuffer buffer, int populationSize, double mutationRate, int maxGenerations) {
+        buffer.clear();
+        buffer.putInt(MAGIC).putInt(VERSION);
+        buffer.putInt(populationSize).putDouble(mutationRate).putInt(maxGenerations);
+    }
+
+    public static void writeConfiguration(ByteBuffer buffer, double eliteFraction, SudokuCrossover crossover,
+                                          int flags, int stagnationLimit, int breedingThreads, Selection selection) {
+        byte[] name = name(selection);
+        buffer.putDouble(eliteFraction).put((byte) crossover.ordinal()).put((byte) flags);
+        buffer.putInt(stagnationLimit).putInt(breedingThreads);
+        buffer.putShort((short) name.length).put(name);
+    }
+
+    public static void writeState(ByteBuffer buffer, int generation, long randomState, int bestFitness,
+                                  int stagnantGenerations, int[][] puzzle, int individuals) {
+        buffer.putInt(generation).putLong(randomState).putInt(bestFitness).putInt(stagnantGenerations);
+        putBoard(buffer, puzzle);
+        buffer.putInt(individuals);
+    }
+
+    public static void writeIndividual(ByteBuffer buffer, int[][] board, int fitness, double mutationRate) {
+        putBoard(buffer, board);
+        buffer.putShort((short) fitness);
+        buffer.putDouble(mutationRate);
+    }
+
+    // Same for a flat row-major board of 81 cells (the genomes of GeneticEngine)
+    public static void writeIndividual(ByteBuffer buffer, int[] cells, int fitness, double mutationRate) {
+        new PackedBoard(cells).toBytes(buffer.array(), buffer.position());
+        buffer.position(buffer.position() + PACKED_SIZE);
+        buffer.putShort((short) fitness);
+        buffer.putDouble(mutationRate);
+    }
+
+    public static void finish(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: read(Path path)
+    // Data Structure: SudokuCheckpoint
+    // Time Complexity: O(P)
+    // Space Complexity: O(P)
+    // Load and verify a checkpoint file, a damaged or foreign file raises an IOException
+    public static SudokuCheckpoint read(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < V1_HEADER_SIZE + 4 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a GA checkpoint: " + path);
+        }
+        int version = buffer.getInt();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported GA checkpoint version " + version + ": " + path);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.limit() - 4);
+        if (buffer.getInt(buffer.limit() - 4) != (int) crc.getValue()) {
+            throw new IOException("Corrupted GA checkpoint: " + path);
+        }
+
+        SudokuCheckpoint checkpoint = new SudokuCheckpoint();
+        checkpoint.populationSize = buffer.getInt();
+        checkpoint.mutationRate = buffer.getDouble();
+        checkpoint.maxGenerations = buffer.getInt();
+        int configurationSize = 0;
+        if (version >= 3) {
+            checkpoint.eliteFraction = buffer.getDouble();
+            int crossover = buffer.get();
+            checkpoint.flags = buffer.get();
+            checkpoint.stagnationLimit = buffer.getInt();
+            checkpoint.breedingThreads = buffer.getInt();
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            configurationSize = CONFIGURATION_SIZE + name.length;
+            try {
+                checkpoint.crossover = SudokuCrossover.values()[crossover];
+                checkpoint.selection = Selection.parse(new String(name, StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                throw new IOException("Corrupted GA checkpoint: " + path, e);
+            }
+        }
+        checkpoint.generation = buffer.getInt();
+        checkpoint.randomState = buffer.getLong();
+        checkpoint.bestFitness = version == 1 ? Integer.MAX_VALUE : buffer.getInt();
+        checkpoint.stagnantGenerations = version == 1 ? 0 : buffer.getInt();
+        checkpoint.puzzle = getBoard(buffer).toBoard();
+        int individuals = buffer.getInt();
+        int expected = version == 1 ? V1_HEADER_SIZE + individuals * V1_INDIVIDUAL_SIZE + 4
+                : V2_HEADER_SIZE + configurationSize + individuals * INDIVIDUAL_SIZE + 4;
+        if (buffer.limit() != expected) {
+            throw new IOException("Corrupted GA checkpoint: " + path);
+        }
+        checkpoint.boards = new PackedBoard[individuals];
+        checkpoint.fitness = new int[individuals];
+        checkpoint.mutationRates = new double[individuals];
+        for (int i = 0; i < individuals; i++) {
+            checkpoint.boards[i] = getBoard(buffer);
+            checkpoint.fitness[i] = buffer.getShort();
+            checkpoint.mutationRates[i] = version == 1 ? checkpoint.mutationRate : buffer.getDouble();
+        }
+        return checkpoint;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: putBoard(ByteBuffer buffer, int[][] board)
+    private static void putBoard(ByteBuffer buffer, int[][] board) {
+        new PackedBoard(board).toBytes(buffer.array(), buffer.position());
+        buffer.position(buffer.position() + PACKED_SIZE);
+    }
+
+    // Helper Method 2: getBoard(ByteBuffer buffer)
+    private static PackedBoard getBoard(ByteBuffer buffer) {
+        PackedBoard board = PackedBoard.fromBytes(buffer.array(), buffer.position());
+        buffer.position(buffer.position() + PACKED_SIZE);
+        return board;
+    }
+
+    // Helper Method 3: name(Selection selection)
+    // The scheme as Selection.parse reads it, UTF-8 encoded
+    private static byte[] name(Selection selection) {
+        return selection.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Writer: double-buffered asynchronous checkpoint file writer
+    // The GA thread encodes a snapshot into the idle buffer while a background thread writes the other one,
+    // each write goes to a temporary file that is then atomically moved over the checkpoint, so a crash
+    // mid-write leaves the previous checkpoint intact
+    // When both buffers are still busy the snapshot is skipped instead of stalling the generation loop
+    public static class Writer implements Closeable {
+        private final Path path;
+        private final Path temp;
+        private final ExecutorService executor;
+        private final ByteBuffer[] buffers = new ByteBuffer[2];
+        private final Future<?>[] pending = new Future<?>[2];
+        private int next = 0;
+
+        public Writer(Path path) {
+            this.path = path;
+            this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ga-checkpoint-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        // Return an idle buffer of at least `size` bytes, or null when both buffers are still being written
+        public ByteBuffer acquire(int size) {
+            if (pending[next] != null && !pending[next].isDone()) {
+                return null;
+            }
+            if (buffers[next] == null || buffers[next].capacity() < size) {
+                buffers[next] = ByteBuffer.allocate(size);
+            }
+            return buffers[next];
+        }
+
+        // Queue the buffer returned by the last acquire for writing
+        public void submit() {
+            ByteBuffer buffer = buffers[next];
+            pending[next] = executor.submit(() -> {
+                write(buffer);
+                return null;
+            });
+            next ^= 1;
+        }
+
+        // The run is over: wait for the queued checkpoints, then delete the file, so that a later solve of the
+        // same puzzle starts a new run instead of resuming a finished one
+        public void discard() throws IOException {
+            await();
+            Files.deleteIfExists(path);
+        }
+
+        // Wait for every queued checkpoint to reach the disk
+        public void await() throws IOException {
+            for (Future<?> future : pending) {
+                if (future == null) continue;
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while writing checkpoint", e);
+                } catch (ExecutionException e) {
+                    throw new IOException("Checkpoint write failed", e.getCause());
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                await();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer view = buffer.duplicate();
+                while (view.hasRemaining()) {
+                    channel.write(view);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
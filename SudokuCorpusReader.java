@@ -0,0 +1,145 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class SudokuCorpusReader implements Closeable {
+
+    //------------------------------------------------------------------------------------------------
+    // Streaming reader for puzzle corpora in the common one-line format
+    // Each puzzle is a line of 81 cells in row-major order, '1'..'9' for givens and '0' or '.' for empty
+    // Anything after the 81st cell on the same line (ratings, comments) is skipped, as are blank lines
+    // and lines starting with '#'
+    // The file is memory-mapped in windows of WINDOW_SIZE bytes so corpora larger than 2 GB still work,
+    // and each puzzle is parsed straight from the mapping into a reusable board, no String per line
+    private static final int GRID_SIZE = 9;
+    private static final int CELL_COUNT = GRID_SIZE * GRID_SIZE;
+    private static final long WINDOW_SIZE = 1L << 28; // 256 MB per mapped window
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int[][] buffer = new int[GRID_SIZE][GRID_SIZE];
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long count;
+
+    public SudokuCorpusReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        map(0);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: next(int[][] board)
+    // Data Structure: Boolean (True or False)
+    // Time Complexity: O(1) per puzzle
+    // Space Complexity: O(1)
+    // Parse the next puzzle into the given 9x9 board, return false once the corpus is exhausted
+    // A line that ends before 81 cells or holds an invalid character raises an IOException with its offset
+    public boolean next(int[][] board) throws IOException {
+        long position = skipToPuzzle();
+        if (position < 0) {
+            return false;
+        }
+        if (position + CELL_COUNT > windowStart + window.limit()) {
+            if (position + CELL_COUNT > fileSize) {
+                throw new IOException("Truncated puzzle at byte offset " + position);
+            }
+            map(position); // Puzzle straddles the window boundary, remap from its first cell
+        }
+
+        int offset = (int) (position - windowStart);
+        for (int i = 0; i < GRID_SIZE; i++) {
+            int[] row = board[i];
+            for (int j = 0; j < GRID_SIZE; j++) {
+                byte c = window.get(offset++);
+                if (c >= '1' && c <= '9') {
+                    row[j] = c - '0';
+                } else if (c == '0' || c == '.') {
+                    row[j] = 0;
+                } else {
+                    throw new IOException("Invalid cell '" + (char) c + "' at byte offset "
+                            + (windowStart + offset - 1));
+                }
+            }
+        }
+        window.position(offset);
+        skipLine();
+        count++;
+        return true;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: next()
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(1) per puzzle
+    // Space Complexity: O(1)
+    // Parse the next puzzle into the reader's own buffer and return it, or null at the end of the corpus
+    // The same array is returned on every call, callers that keep a puzzle must copy it
+    public int[][] next() throws IOException {
+        return next(buffer) ? buffer : null;
+    }
+
+    // Number of puzzles returned so far, also the zero-based id of the next puzzle
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: map(long position)
+    // Map the window of the file starting at the given byte offset
+    private void map(long position) throws IOException {
+        windowStart = position;
+        long length = Math.min(WINDOW_SIZE, fileSize - position);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    }
+
+    // Helper Method 2: skipToPuzzle()
+    // Skip blank lines and '#' comment lines, return the file offset of the next puzzle or -1 at the end
+    private long skipToPuzzle() throws IOException {
+        while (true) {
+            if (!window.hasRemaining()) {
+                long position = windowStart + window.limit();
+                if (position >= fileSize) {
+                    return -1;
+                }
+                map(position);
+            }
+            byte c = window.get(window.position());
+            if (c == '\n' || c == '\r' || c == ' ' || c == '\t') {
+                window.position(window.position() + 1);
+            } else if (c == '#') {
+                skipLine();
+            } else {
+                return windowStart + window.position();
+            }
+        }
+    }
+
+    // Helper Method 3: skipLine()
+    // Advance past the next '\n', remapping when the line runs past the current window
+    private void skipLine() throws IOException {
+        while (true) {
+            while (window.hasRemaining()) {
+                if (window.get() == '\n') {
+                    return;
+                }
+            }
+            long position = windowStart + window.limit();
+            if (position >= fileSize) {
+                return;
+            }
+            map(position);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class SudokuCorpusWriter implements Closeable {
+
+    //------------------------------------------------------------------------------------------------
+    // Streaming writer for boards in the same one-line format read by SudokuCorpusReader
+    // Boards are encoded straight into a direct buffer and flushed to the channel in BUFFER_SIZE blocks,
+    // so memory use stays constant no matter how many boards are written
+    private static final int GRID_SIZE = 9;
+    private static final int LINE_LENGTH = GRID_SIZE * GRID_SIZE + 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long count;
+
+    public SudokuCorpusWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: write(int[][] board)
+    // Data Structure: void
+    // Time Complexity: O(1) per board
+    // Space Complexity: O(1)
+    // Append the board as one line of 81 digits, empty cells are written as '0'
+    public void write(int[][] board) throws IOException {
+        if (buffer.remaining() < LINE_LENGTH) {
+            flush();
+        }
+        for (int i = 0; i < GRID_SIZE; i++) {
+            int[] row = board[i];
+            for (int j = 0; j < GRID_SIZE; j++) {
+                buffer.put((byte) ('0' + row[j]));
+            }
+        }
+        buffer.put((byte) '\n');
+        count++;
+    }
+
+    // Number of boards written so far
+    public long count() {
+        return count;
+    }
+
+    // Push every buffered board to the channel
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
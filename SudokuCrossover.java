@@ -0,0 +1,163 @@
+public enum SudokuCrossover {
+
+    //------------------------------------------------------------------------------------------------
+    // Crossover operators of the GA, each builds a new child board from two parents of the same puzzle
+    // Givens hold the same value in every board of a run, so whole rows, columns and subgrids can be taken
+    // from either parent without breaking them
+    //   UNIFORM - every empty cell from a random parent (the original operator)
+    //   ROW     - every row from a random parent
+    //   COLUMN  - every column from a random parent
+    //   BOX     - every n x n subgrid from a random parent
+    // The unit operators keep the conflict-free rows, columns or subgrids a parent already has intact, and
+    // copy contiguous runs with System.arraycopy instead of cell by cell
+    // Each operator works on N x N boards (the steady-state mode) and on flat row-major genomes written into
+    // a given child (SudokuProblem, the plugin of the generational GeneticEngine); both forms draw the same
+    // random decisions
+    UNIFORM {
+        @Override
+        public int[][] apply(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random) {
+            int size = puzzle.length;
+            int[][] child = new int[size][];
+            for (int i = 0; i < size; i++) {
+                child[i] = puzzle[i].clone();
+                for (int j = 0; j < size; j++) {
+                    if (child[i][j] == 0) {
+                        child[i][j] = random.nextBoolean() ? parent1[i][j] : parent2[i][j];
+                    }
+                }
+            }
+            return child;
+        }
+
+        @Override
+        public void apply(int[] parent1, int[] parent2, int[] child, SudokuGeometry geometry, int[] freeCells,
+                          SudokuRandom random) {
+            System.arraycopy(parent1, 0, child, 0, child.length);
+            for (int cell : freeCells) {
+                if (!random.nextBoolean()) child[cell] = parent2[cell];
+            }
+        }
+    },
+
+    ROW {
+        @Override
+        public int[][] apply(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random) {
+            int size = puzzle.length;
+            int[][] child = new int[size][];
+            for (int i = 0; i < size; i++) {
+                child[i] = (random.nextBoolean() ? parent1[i] : parent2[i]).clone();
+            }
+            return child;
+        }
+
+        @Override
+        public void apply(int[] parent1, int[] parent2, int[] child, SudokuGeometry geometry, int[] freeCells,
+                          SudokuRandom random) {
+            int size = geometry.size;
+            for (int start = 0; start < child.length; start += size) {
+                System.arraycopy(random.nextBoolean() ? parent1 : parent2, start, child, start, size);
+            }
+        }
+    },
+
+    COLUMN {
+        @Override
+        public int[][] apply(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random) {
+            int size = puzzle.length;
+            long fromParent2 = 0; // Bit j set when column j comes from parent2
+            for (int j = 0; j < size; j++) {
+                if (random.nextBoolean()) fromParent2 |= 1L << j;
+            }
+            int[][] child = new int[size][];
+            for (int i = 0; i < size; i++) {
+                child[i] = parent1[i].clone();
+                for (long columns = fromParent2; columns != 0; columns &= columns - 1) {
+                    int j = Long.numberOfTrailingZeros(columns);
+                    child[i][j] = parent2[i][j];
+                }
+            }
+            return child;
+        }
+
+        @Override
+        public void apply(int[] parent1, int[] parent2, int[] child, SudokuGeometry geometry, int[] freeCells,
+                          SudokuRandom random) {
+            int size = geometry.size;
+            long fromParent2 = 0;
+            for (int j = 0; j < size; j++) {
+                if (random.nextBoolean()) fromParent2 |= 1L << j;
+            }
+            System.arraycopy(parent1, 0, child, 0, child.length);
+            for (int start = 0; start < child.length; start += size) {
+                for (long columns = fromParent2; columns != 0; columns &= columns - 1) {
+                    int cell = start + Long.numberOfTrailingZeros(columns);
+                    child[cell] = parent2[cell];
+                }
+            }
+        }
+    },
+
+    BOX {
+        @Override
+        public int[][] apply(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random) {
+            int size = puzzle.length;
+            int boxSize = SudokuGeometry.forGrid(size).boxSize;
+            long fromParent2 = 0; // Bit b set when subgrid b comes from parent2
+            for (int box = 0; box < size; box++) {
+                if (random.nextBoolean()) fromParent2 |= 1L << box;
+            }
+            int[][] child = new int[size][];
+            for (int i = 0; i < size; i++) {
+                child[i] = parent1[i].clone();
+                long bandBoxes = (fromParent2 >>> (i / boxSize * boxSize)) & ((1L << boxSize) - 1);
+                for (; bandBoxes != 0; bandBoxes &= bandBoxes - 1) {
+                    int stack = Long.numberOfTrailingZeros(bandBoxes) * boxSize;
+                    System.arraycopy(parent2[i], stack, child[i], stack, boxSize);
+                }
+            }
+            return child;
+        }
+
+        @Override
+        public void apply(int[] parent1, int[] parent2, int[] child, SudokuGeometry geometry, int[] freeCells,
+                          SudokuRandom random) {
+            int size = geometry.size;
+            int boxSize = geometry.boxSize;
+            long fromParent2 = 0;
+            for (int box = 0; box < size; box++) {
+                if (random.nextBoolean()) fromParent2 |= 1L << box;
+            }
+            System.arraycopy(parent1, 0, child, 0, child.length);
+            for (int i = 0; i < size; i++) {
+                long bandBoxes = (fromParent2 >>> (i / boxSize * boxSize)) & ((1L << boxSize) - 1);
+                for (; bandBoxes != 0; bandBoxes &= bandBoxes - 1) {
+                    int start = i * size + Long.numberOfTrailingZeros(bandBoxes) * boxSize;
+                    System.arraycopy(parent2, start, child, start, boxSize);
+                }
+            }
+        }
+    };
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: apply(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(N^2)
+    // A new child board, the parents are not modified
+    public abstract int[][] apply(int[][] parent1, int[][] parent2, int[][] puzzle, SudokuRandom random);
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: apply(int[] parent1, int[] parent2, int[] child, SudokuGeometry geometry, int[] freeCells, SudokuRandom random)
+    // Data Structure: void
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(1)
+    // The same operator on flat row-major genomes, written into `child`; freeCells lists the empty puzzle
+    // cells in row-major order
+    public abstract void apply(int[] parent1, int[] parent2, int[] child, SudokuGeometry geometry, int[] freeCells,
+                               SudokuRandom random);
+
+    // Operator by name, case-insensitive: uniform, row, column, box
+    public static SudokuCrossover parse(String name) {
+        return valueOf(name.toUpperCase());
+    }
+}
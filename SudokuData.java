@@ -514,4 +514,80 @@ public class SudokuData {
 
                 return VeryHardSudokuBoards;
         }
+
+        public static List<int[][]> GetLargeBoards() {
+
+                List<int[][]> LargeSudokuBoards = new ArrayList<>();
+
+                // 16x16 Sudoku grid (4x4 subgrids)
+                int[][] sudoku16 = {
+                        { 9, 14,  0, 11, 15,  7,  0, 10,  8,  0,  4,  0,  0,  0,  0,  3},
+                        {12, 10, 15,  7, 13,  8,  0,  0,  6,  2, 16,  0,  0,  9, 11,  1},
+                        { 0, 16,  3,  6,  1,  0,  9, 14,  7, 12, 10,  0,  0,  5,  0,  0},
+                        { 0,  4, 13,  8,  3,  6,  0, 16, 11,  9,  0,  0,  0, 12,  7, 15},
+                        {16,  0,  5, 13,  0,  0, 14,  0,  0,  0,  0,  9,  0,  4,  0,  0},
+                        { 4,  0,  0, 15,  5, 13, 16,  8,  3, 14,  6,  2, 11,  0,  0,  9},
+                        {14,  6,  2,  3,  0,  1,  0, 11,  0,  4,  0, 12,  8, 16,  0,  5},
+                        {10, 11,  0,  1, 12,  0,  0,  7, 13, 16,  8,  5,  0,  0,  0,  2},
+                        {13, 12,  0,  0,  6, 16,  3,  5,  0,  0,  0, 11,  0, 15,  0,  0},
+                        {15,  9,  0, 10,  8,  4, 13,  0, 16,  3,  5,  0,  0,  1,  0, 11},
+                        { 3,  5,  6, 16, 11,  0,  1,  2, 10,  0,  9,  7,  0, 13,  0,  8},
+                        { 1,  0, 11, 14,  0,  0, 15,  9,  0,  0,  0,  0,  5,  3, 16,  0},
+                        { 0,  3, 14,  2, 10,  9,  7,  1, 12,  0,  0,  0, 13,  0,  5, 16},
+                        { 0,  1, 10,  9,  4, 12,  0, 15,  5,  6, 13, 16,  3, 11,  2, 14},
+                        { 8, 15,  4,  0, 16,  5,  6,  0,  2,  0,  0, 14,  1,  0,  0, 10},
+                        { 6,  0,  0,  0,  0,  2,  0,  3,  0,  7,  0, 10, 15,  0,  0,  4}
+                };
+                LargeSudokuBoards.add(sudoku16);
+
+                // 25x25 Sudoku grid (5x5 subgrids)
+                int[][] sudoku25 = {
+                        { 0,  2,  4, 20,  0,  0, 18, 22,  0,  9, 10,  0, 12, 21,  0,  0,  0,  0,  7,  1, 13, 23, 19,  0, 17},
+                        { 9, 14, 15, 18, 22, 25,  0, 12,  0, 10, 13,  6,  0, 19, 23,  0,  8,  4,  3,  2,  0, 16,  1,  0,  7},
+                        {24,  1, 16, 11,  7,  4, 20,  3,  2,  0,  9, 18, 22, 14, 15,  0, 13, 23, 17, 19, 10, 25, 21,  0,  0},
+                        {10, 21, 25,  5, 12, 23,  6,  0, 19, 13, 24, 11,  0,  1, 16, 18,  0, 15, 22, 14,  0,  4,  2, 20,  3},
+                        {13, 19, 23,  6, 17, 16,  0,  7,  1, 24,  8, 20,  0,  2,  0,  5, 10, 25, 12, 21,  9, 15, 14, 18,  0},
+                        {11,  0,  0,  7,  0,  0,  0, 21,  4, 20,  0, 22, 19, 15,  0,  0,  6,  8,  2, 23,  0, 24, 25,  0,  1},
+                        { 6, 23,  8, 17,  2,  9,  0,  0,  0, 11, 20,  3, 21,  4, 10, 12,  0, 24,  1, 25, 18, 13, 15, 22, 19},
+                        { 0, 25, 24, 12,  0,  8, 17,  0, 23,  6,  0,  7,  0, 16,  9, 22, 18, 13, 19,  0, 20,  0,  4,  3, 21},
+                        {20,  4,  0,  3, 21, 13, 22, 19, 15,  0,  5, 12,  1, 25, 24,  7, 11,  9, 14, 16,  6,  8,  0, 17,  2},
+                        { 0, 15, 13, 22, 19, 24, 12,  1, 25,  0,  0, 17,  2, 23,  8,  3, 20, 10, 21,  0, 11,  9,  0,  0,  0},
+                        { 0,  6, 17, 23,  8,  0, 16,  9,  0,  1,  2,  4, 10, 20,  0,  0, 21, 12, 24,  5, 14, 22, 18, 15, 13},
+                        { 0, 18,  0, 15, 13, 12, 25, 24,  5, 21, 19, 23,  8,  0,  0,  4,  2,  3, 10,  0,  1,  7,  0,  0,  0},
+                        { 0,  5, 12,  0, 24, 17, 23,  8,  6, 19,  0, 16,  0, 11,  7, 15, 14, 22, 13, 18,  2,  3, 20,  0, 10},
+                        { 1, 11,  0, 16,  9,  3,  4, 10, 20,  2, 14, 15,  0, 18,  0,  0, 19, 17,  8,  0, 21,  0,  5,  0, 24},
+                        { 2, 20,  0,  4, 10,  0, 15, 13, 18, 14,  0,  0, 24,  5, 12,  0,  0,  7,  9,  0, 19, 17,  6, 23,  8},
+                        {23, 17,  0,  8, 20, 14,  9, 18,  7, 16,  4, 10,  5,  3, 21, 24, 25,  1, 11,  0, 15, 19, 22, 13,  6},
+                        {25, 12,  1,  0,  0,  2,  8, 20, 17, 23,  0,  9, 18,  0, 14, 13, 15,  0,  0, 22,  4, 21,  3, 10,  0},
+                        {16,  7, 14,  9, 18, 21, 10,  5,  3,  4, 15, 13,  0, 22, 19,  8, 23,  2, 20,  0, 25,  0, 12, 24, 11},
+                        {15,  0, 19, 13,  6,  1, 24, 11, 12,  0, 23,  8, 20,  0,  0, 10,  4, 21,  0,  3, 16, 14,  7,  9, 18},
+                        { 4,  0, 21, 10,  5, 19, 13,  6, 22, 15, 25, 24,  0, 12,  1,  9, 16, 14, 18,  7, 23,  2, 17,  8, 20},
+                        { 3, 10,  0, 21, 25,  6, 19, 23, 13, 22, 12,  0, 16, 24,  0,  0,  7, 18, 15,  9,  0, 20,  8,  2,  4},
+                        {22, 13,  0,  0,  0, 11,  1, 16, 24, 12, 17,  2,  4,  8, 20, 21,  3,  5, 25, 10,  0,  0,  0, 14, 15},
+                        {12,  0, 11,  1,  0, 20,  2,  0,  0, 17,  7, 14, 15,  0, 18,  0,  0,  6, 23, 13,  3,  5, 10, 21, 25},
+                        {17,  8, 20,  2,  0, 18, 14, 15,  9,  7,  0, 21,  0, 10,  0,  0, 12, 11, 16, 24, 22,  0, 13, 19, 23},
+                        { 0,  0, 18,  0, 15,  5, 21,  0, 10,  3,  0, 19,  0, 13,  6,  2, 17, 20,  4,  0, 12,  0, 24,  0, 16}
+                };
+                LargeSudokuBoards.add(sudoku25);
+
+                return LargeSudokuBoards;
+        }
+
+        // Boards of a level by name: Easy, Medium, Hard, Very Hard or Large; any other name is rejected
+        public static List<int[][]> GetBoards(String level) {
+                switch (level) {
+                        case "Easy":
+                                return GetEasyBoards();
+                        case "Medium":
+                                return GetMediumBoards();
+                        case "Hard":
+                                return GetHardBoards();
+                        case "Very Hard":
+                                return GetVeryHardBoards();
+                        case "Large":
+                                return GetLargeBoards();
+                        default:
+                                throw new IllegalArgumentException("Unknown level: " + level);
+                }
+        }
 }
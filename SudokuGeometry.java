@@ -0,0 +1,198 @@
+public final class SudokuGeometry {
+
+    //------------------------------------------------------------------------------------------------
+    // Precomputed structure of an N x N Sudoku grid with N = n^2 (9x9 for n = 3, 16x16 for n = 4, 25x25 ...)
+    // Cells are numbered row-major from 0 to N^2 - 1
+    //   units[u]      - the N cells of unit u, rows are units 0..N-1, columns N..2N-1, subgrids 2N..3N-1
+    //   peers[cell]   - the 3N - 2n - 1 other cells sharing a row, column or subgrid with the cell
+    //   cellUnits[c]  - the row, column and subgrid unit of cell c
+    // Values 1..N are held as bits 0..N-1 of a long, so candidate sets and unit contents are single masks
+    // and N can go up to 64 (n = 8)
+    // With these tables every per-board operation costs O(N^2) and every per-cell operation O(N), so the
+    // cost per cell stays flat as the grid grows, instead of the O(N^2) per unit of list-based scans
+    // The table arrays are mutable and shared by every user of the grid size, so they are package-private:
+    // code outside the solver's own classes goes through the methods below
+    public static final int MAX_BOX_SIZE = 8;
+    private static final SudokuGeometry[] BY_GRID = new SudokuGeometry[MAX_BOX_SIZE * MAX_BOX_SIZE + 1];
+
+    public final int boxSize;
+    public final int size;
+    public final int cellCount;
+    public final long fullMask;
+    final int[][] units;
+    final int[][] peers;
+    final int[][] cellUnits;
+    final int[] rowOf;
+    final int[] colOf;
+
+    private SudokuGeometry(int boxSize) {
+        this.boxSize = boxSize;
+        this.size = boxSize * boxSize;
+        this.cellCount = size * size;
+        this.fullMask = size == 64 ? -1L : (1L << size) - 1;
+        this.units = new int[3 * size][size];
+        this.cellUnits = new int[cellCount][3];
+        this.rowOf = new int[cellCount];
+        this.colOf = new int[cellCount];
+
+        int[] filled = new int[3 * size];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            int box = (row / boxSize) * boxSize + col / boxSize;
+            rowOf[cell] = row;
+            colOf[cell] = col;
+            cellUnits[cell][0] = row;
+            cellUnits[cell][1] = size + col;
+            cellUnits[cell][2] = 2 * size + box;
+            for (int unit : cellUnits[cell]) {
+                units[unit][filled[unit]++] = cell;
+            }
+        }
+
+        int peerCount = 3 * size - 2 * boxSize - 1;
+        this.peers = new int[cellCount][peerCount];
+        boolean[] seen = new boolean[cellCount];
+        for (int cell = 0; cell < cellCount; cell++) {
+            int count = 0;
+            for (int unit : cellUnits[cell]) {
+                for (int peer : units[unit]) {
+                    if (peer != cell && !seen[peer]) {
+                        seen[peer] = true;
+                        peers[cell][count++] = peer;
+                    }
+                }
+            }
+            for (int peer : peers[cell]) {
+                seen[peer] = false;
+            }
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: of(int boxSize) / forGrid(int gridSize)
+    // Data Structure: SudokuGeometry
+    // Shared, lazily built geometry for a subgrid size n, or for a grid of N = n^2 rows
+    // forGrid is on the fitness hot path, so a built geometry is read without locking (all fields are final,
+    // which makes the racy read safe)
+    public static SudokuGeometry of(int boxSize) {
+        if (boxSize < 1 || boxSize > MAX_BOX_SIZE) {
+            throw new IllegalArgumentException("Unsupported subgrid size: " + boxSize);
+        }
+        SudokuGeometry geometry = BY_GRID[boxSize * boxSize];
+        return geometry != null ? geometry : build(boxSize);
+    }
+
+    public static SudokuGeometry forGrid(int gridSize) {
+        SudokuGeometry geometry = gridSize < BY_GRID.length ? BY_GRID[gridSize] : null;
+        if (geometry != null) {
+            return geometry;
+        }
+        int boxSize = (int) Math.round(Math.sqrt(gridSize));
+        if (boxSize * boxSize != gridSize) {
+            throw new IllegalArgumentException("Grid size is not a perfect square: " + gridSize);
+        }
+        return of(boxSize);
+    }
+
+    private static synchronized SudokuGeometry build(int boxSize) {
+        int size = boxSize * boxSize;
+        if (BY_GRID[size] == null) {
+            BY_GRID[size] = new SudokuGeometry(boxSize);
+        }
+        return BY_GRID[size];
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: conflicts(int[][] board) / conflicts(int[][] board, int bound)
+    // Data Structure: Integer
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(1)
+    // Number of duplicate values over all units (each repeat beyond the first counts once), empty cells
+    // are ignored, 0 means no rule is broken; 9x9 boards go to the SudokuTables kernel
+    public int conflicts(int[][] board) {
+        if (size == SudokuTables.GRID_SIZE) {
+            return SudokuTables.conflicts(board);
+        }
+        return unitConflicts(board, Integer.MAX_VALUE);
+    }
+
+    // Bounded variant: stops after the first unit that takes the count above `bound` and returns the count
+    // so far, so a result above `bound` is only a lower bound of the true conflict count
+    public int conflicts(int[][] board, int bound) {
+        if (size == SudokuTables.GRID_SIZE) {
+            return SudokuTables.conflicts(board, bound);
+        }
+        return unitConflicts(board, bound);
+    }
+
+    // The general unit loop behind both variants, for any grid size
+    int unitConflicts(int[][] board, int bound) {
+        int conflicts = 0;
+        for (int[] unit : units) {
+            long mask = 0;
+            int filled = 0;
+            for (int cell : unit) {
+                int value = board[rowOf[cell]][colOf[cell]];
+                if (value != 0) {
+                    mask |= 1L << (value - 1);
+                    filled++;
+                }
+            }
+            conflicts += filled - Long.bitCount(mask);
+            if (conflicts > bound) {
+                return conflicts;
+            }
+        }
+        return conflicts;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: candidates(int[][] board, int row, int col)
+    // Data Structure: long bit mask
+    // Time Complexity: O(N)
+    // Space Complexity: O(1)
+    // Values not yet used by any peer of the cell, value v is bit v - 1
+    public long candidates(int[][] board, int row, int col) {
+        if (size == SudokuTables.GRID_SIZE) {
+            return SudokuTables.candidates(board, row * size + col);
+        }
+        long used = 0;
+        for (int peer : peers[row * size + col]) {
+            int value = board[rowOf[peer]][colOf[peer]];
+            if (value != 0) {
+                used |= 1L << (value - 1);
+            }
+        }
+        return fullMask & ~used;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 4: isSolved(int[][] board)
+    // Data Structure: Boolean (True or False)
+    // Time Complexity: O(N^2)
+    // Space Complexity: O(1)
+    // A complete board with every unit holding each value exactly once
+    public boolean isSolved(int[][] board) {
+        for (int[] unit : units) {
+            long mask = 0;
+            for (int cell : unit) {
+                int value = board[rowOf[cell]][colOf[cell]];
+                if (value < 1 || value > size) return false;
+                mask |= 1L << (value - 1);
+            }
+            if (mask != fullMask) return false;
+        }
+        return true;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Helper Method: valueAt(long mask, int index)
+    // The value of the index-th set bit of a candidate mask (index 0 is the lowest value)
+    public static int valueAt(long mask, int index) {
+        for (int i = 0; i < index; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask) + 1;
+    }
+}
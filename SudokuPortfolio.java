@@ -0,0 +1,255 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class SudokuPortfolio {
+
+    //------------------------------------------------------------------------------------------------
+    // Parallel restart portfolio: K independent SimpleGeneticSudokuSolver runs of one puzzle, each with its
+    // own seed and one of the CONFIGS variants, on a fixed thread pool
+    // Progress is shared lock-free: every run publishes its best fitness each generation into one AtomicLong
+    // holding (fitness << 32 | run), lowered with compareAndSet. The first run to reach fitness 0 raises the
+    // stop flag, which every other run reads through its stop condition at the next generation; runs still
+    // queued read it when they start and return without solving. The first solution wins
+    // Time-to-solution of a single GA run has a heavy tail, so several short diverse runs usually finish
+    // sooner than one long run with the same total budget (see main)
+    // Run with: java SudokuPortfolio [runs] [threads] [trials]
+    private static final long NO_PROGRESS = Long.MAX_VALUE;
+
+    // Configuration variants assigned to the runs in turn: crossover, adaptive mutation, crowding
+    private static final String[] CONFIGS = {"uniform", "row+adaptive", "box", "row+crowding"};
+
+    private final int runs;
+    private final int threads;
+    private final int populationSize;
+    private final double mutationRate;
+    private final int maxGenerations;
+    private final AtomicLong best = new AtomicLong(NO_PROGRESS);
+    private long lastWallNanos;
+    private long lastCpuNanos;
+    private final AtomicInteger winner = new AtomicInteger(-1);
+
+    public SudokuPortfolio(int runs, int threads, int populationSize, double mutationRate, int maxGenerations) {
+        this.runs = runs;
+        this.threads = threads;
+        this.populationSize = populationSize;
+        this.mutationRate = mutationRate;
+        this.maxGenerations = maxGenerations;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: solve(int[][] puzzle, long seed)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(K * G * P(log(P))) in the worst case, spread over the threads
+    // Space Complexity: O(threads * P)
+    // The first solution found by any run, or the best final board when no run solves the puzzle
+    public int[][] solve(int[][] puzzle, long seed) throws InterruptedException {
+        best.set(NO_PROGRESS);
+        winner.set(-1);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicReference<int[][]> solution = new AtomicReference<>();
+        AtomicLong cpuNanos = new AtomicLong();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Future<?>[] futures = new Future<?>[runs];
+        long startTime = System.nanoTime();
+        try {
+            for (int k = 0; k < runs; k++) {
+                int run = k;
+                long runSeed = SudokuRandom.stream(seed, run).nextLong();
+                futures[k] = executor.submit(() -> {
+                    if (stop.get()) {
+                        return null; // Queued behind the winner, nothing left to do
+                    }
+                    long cpuBefore = threadBean.getCurrentThreadCpuTime();
+                    try {
+                        SimpleGeneticSudokuSolver solver = configure(run);
+                        solver.setSeed(runSeed);
+                        solver.setStopCondition(stop::get);
+                        solver.setProgressListener(fitness -> publish(fitness, run));
+                        int[][] board = solver.solve(puzzle);
+                        if (SudokuGeometry.forGrid(board.length).isSolved(board)
+                                && solution.compareAndSet(null, board)) {
+                            winner.set(run);
+                            stop.set(true);
+                        }
+                        return board;
+                    } finally {
+                        cpuNanos.addAndGet(threadBean.getCurrentThreadCpuTime() - cpuBefore);
+                    }
+                });
+            }
+
+            // Every run finishes: stopped runs return their best board at the next generation
+            int[][] bestBoard = null;
+            int bestFitness = Integer.MAX_VALUE;
+            for (Future<?> future : futures) {
+                try {
+                    int[][] board = (int[][]) future.get();
+                    if (board == null) continue;
+                    int fitness = SudokuGeometry.forGrid(board.length).conflicts(board);
+                    if (fitness < bestFitness) {
+                        bestFitness = fitness;
+                        bestBoard = board;
+                    }
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Portfolio run failed", e.getCause());
+                }
+            }
+            lastWallNanos = System.nanoTime() - startTime;
+            lastCpuNanos = cpuNanos.get();
+            return solution.get() != null ? solution.get() : bestBoard;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Best fitness published by any run of the last solve, Integer.MAX_VALUE before the first generation
+    public int bestFitness() {
+        long packed = best.get();
+        return packed == NO_PROGRESS ? Integer.MAX_VALUE : (int) (packed >>> 32);
+    }
+
+    // Run that found the solution of the last solve, -1 when unsolved
+    public int winner() {
+        return winner.get();
+    }
+
+    public double lastWallSeconds() {
+        return lastWallNanos / 1e9;
+    }
+
+    public double lastCpuSeconds() {
+        return lastCpuNanos / 1e9;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: publish(int fitness, int run)
+    // Lower the shared best-so-far to (fitness, run) if it is better, retried on contention, never blocks
+    private void publish(int fitness, int run) {
+        long packed = (long) fitness << 32 | run;
+        long current = best.get();
+        while (packed < current && !best.compareAndSet(current, packed)) {
+            current = best.get();
+        }
+    }
+
+    // Helper Method 2: configure(int run)
+    // Solver of run `run`, with the CONFIGS variant of the run
+    private SimpleGeneticSudokuSolver configure(int run) {
+        SimpleGeneticSudokuSolver solver = new SimpleGeneticSudokuSolver(populationSize, mutationRate, maxGenerations);
+        solver.setVerbose(false);
+        String config = CONFIGS[run % CONFIGS.length];
+        String[] parts = config.split("\\+");
+        solver.setCrossover(SudokuCrossover.parse(parts[0]));
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].equals("adaptive")) solver.setAdaptiveMutation(true);
+            if (parts[i].equals("crowding")) solver.setCrowding(true);
+        }
+        return solver;
+    }
+
+    // Helper Method 3: percentile(double[] values, double p)
+    // Infinite values (censored, unsolved trials) sort last
+    private static double percentile(double[] values, double p) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    // Helper Method 4: seconds(double value), a time for the report, "unsolved" when censored
+    private static String seconds(double value) {
+        return Double.isInfinite(value) ? "unsolved" : String.format("%.3f s", value);
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    // Every Hard and Very Hard board is solved `trials` times by a portfolio of `runs` runs of G generations
+    // and by one uniform-crossover run of runs * G generations (the same total budget, so equal CPU at most),
+    // with different seeds per trial. Reported: solve rate, mean CPU time per board, CPU time per solution,
+    // and the 90th percentile of the time-to-solution. An unsolved trial never reaches a solution, so its
+    // time-to-solution is censored to infinity (shown as "unsolved") rather than the time it spent failing
+    // Then the speedup and tail reduction of the portfolio (wall time on `threads` threads)
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int trials = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int population = 1000;
+        double mutation = 0.2;
+        int generations = 50;
+
+        List<int[][]> boards = new ArrayList<>();
+        for (int[][] board : SudokuData.GetHardBoards()) boards.add(board);
+        for (int[][] board : SudokuData.GetVeryHardBoards()) boards.add(board);
+        int count = boards.size() * trials;
+        double[] singleCpu = new double[count];
+        double[] portfolioCpu = new double[count];
+        double[] portfolioWall = new double[count];
+        // Time-to-solution per trial, infinite when the trial is unsolved
+        double[] singleTts = new double[count];
+        double[] portfolioTts = new double[count];
+        double[] portfolioWallTts = new double[count];
+        int singleSolved = 0;
+        int portfolioSolved = 0;
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        SudokuPortfolio portfolio = new SudokuPortfolio(runs, threads, population, mutation, generations);
+        for (int t = 0; t < trials; t++) {
+            for (int b = 0; b < boards.size(); b++) {
+                int index = t * boards.size() + b;
+                long seed = SudokuRandom.stream(2024 + t, b).nextLong();
+
+                SimpleGeneticSudokuSolver single = new SimpleGeneticSudokuSolver(population, mutation,
+                        runs * generations);
+                single.setSeed(seed);
+                single.setVerbose(false);
+                long cpuBefore = threadBean.getCurrentThreadCpuTime();
+                int[][] board = single.solve(boards.get(b));
+                singleCpu[index] = (threadBean.getCurrentThreadCpuTime() - cpuBefore) / 1e9;
+                boolean solved = SudokuGeometry.forGrid(board.length).isSolved(board);
+                if (solved) singleSolved++;
+                singleTts[index] = solved ? singleCpu[index] : Double.POSITIVE_INFINITY;
+
+                board = portfolio.solve(boards.get(b), seed);
+                portfolioCpu[index] = portfolio.lastCpuSeconds();
+                portfolioWall[index] = portfolio.lastWallSeconds();
+                solved = SudokuGeometry.forGrid(board.length).isSolved(board);
+                if (solved) portfolioSolved++;
+                portfolioTts[index] = solved ? portfolioCpu[index] : Double.POSITIVE_INFINITY;
+                portfolioWallTts[index] = solved ? portfolioWall[index] : Double.POSITIVE_INFINITY;
+            }
+        }
+
+        double singleMean = Arrays.stream(singleCpu).average().orElse(0);
+        double portfolioMean = Arrays.stream(portfolioCpu).average().orElse(0);
+        double wallMean = Arrays.stream(portfolioWall).average().orElse(0);
+        // Expected time to a solution: all the time spent, solved or not, over the number of solutions
+        double singlePerSolution = singleMean * count / Math.max(1, singleSolved);
+        double portfolioPerSolution = portfolioMean * count / Math.max(1, portfolioSolved);
+        double singleP90 = percentile(singleTts, 0.9);
+        double portfolioP90 = percentile(portfolioTts, 0.9);
+        System.out.printf("Single run (%d generations): solved %d/%d, CPU mean %.3f s, per solution %.3f s,"
+                + " p90 time-to-solution (CPU) %s%n", runs * generations, singleSolved, count, singleMean,
+                singlePerSolution, seconds(singleP90));
+        System.out.printf("Portfolio (%d runs x %d generations, %d threads): solved %d/%d, CPU mean %.3f s,"
+                + " per solution %.3f s, wall mean %.3f s, p90 time-to-solution (CPU / wall) %s / %s%n", runs,
+                generations, threads, portfolioSolved, count, portfolioMean, portfolioPerSolution, wallMean,
+                seconds(portfolioP90), seconds(percentile(portfolioWallTts, 0.9)));
+        System.out.printf("Speedup per solution: %.2fx CPU, %.2fx wall; p90 tail reduction (CPU): %s%n",
+                singlePerSolution / portfolioPerSolution,
+                singlePerSolution / (wallMean * count / Math.max(1, portfolioSolved)),
+                Double.isInfinite(singleP90) || Double.isInfinite(portfolioP90)
+                        ? "n/a" : String.format("%.2fx", singleP90 / portfolioP90));
+    }
+}
@@ -0,0 +1,150 @@
+public final class SudokuProblem implements GeneticEngine.Genome, GeneticEngine.FitnessFunction,
+        GeneticEngine.BatchFitness, GeneticEngine.Crossover, GeneticEngine.Mutation {
+
+    //------------------------------------------------------------------------------------------------
+    // Sudoku as a GeneticEngine plugin, the genome and operators SimpleGeneticSudokuSolver evolves with
+    // Gene c is the value of cell c (row-major), givens hold their puzzle value in every genome
+    //   initialize - every empty cell gets a random value not yet used by its peers (or any value)
+    //   evaluate   - duplicate values over all rows, columns and subgrids, 0 for a solution; the bounded
+    //                variant stops after the first unit that exceeds the bound
+    //   batch      - a generation's children scored together by BatchFitnessEvaluator
+    //   crossover  - the SudokuCrossover of the constructor on the flat genome, uniform by default
+    //   mutation   - with probability `rate`, an empty cell gets a random value its peers do not use
+    // Every operator draws the same random numbers, in the same order, as the solver's board versions
+    // (generateRandomFilledBoard, SudokuCrossover.apply on boards, mutate), so the two forms are
+    // interchangeable. The free cells are resolved to flat cell indices once, in the constructor; 9x9
+    // genomes use the SudokuTables kernels
+    private static final int BATCH_CAPACITY = 256;
+
+    private final SudokuGeometry geometry;
+    private final SudokuCrossover crossover;
+    private final int[] puzzle;
+    private final int[] freeCells;
+    private BatchFitnessEvaluator batchEvaluator = null;
+
+    public SudokuProblem(int[][] puzzle) {
+        this(puzzle, SudokuCrossover.UNIFORM);
+    }
+
+    public SudokuProblem(int[][] puzzle, SudokuCrossover crossover) {
+        this.geometry = SudokuGeometry.forGrid(puzzle.length);
+        this.crossover = crossover;
+        this.puzzle = new int[geometry.cellCount];
+        int free = 0;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            this.puzzle[cell] = puzzle[geometry.rowOf[cell]][geometry.colOf[cell]];
+            if (this.puzzle[cell] == 0) free++;
+        }
+        this.freeCells = new int[free];
+        free = 0;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            if (this.puzzle[cell] == 0) freeCells[free++] = cell;
+        }
+    }
+
+    @Override
+    public int length() {
+        return geometry.cellCount;
+    }
+
+    @Override
+    public void initialize(int[] genes, SudokuRandom random) {
+        System.arraycopy(puzzle, 0, genes, 0, genes.length);
+        for (int cell : freeCells) {
+            long possible = candidates(genes, cell);
+            genes[cell] = possible != 0
+                    ? SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)))
+                    : 1 + random.nextInt(geometry.size); // Fallback
+        }
+    }
+
+    @Override
+    public int evaluate(int[] genes) {
+        return evaluate(genes, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int evaluate(int[] genes, int bound) {
+        if (geometry.size == SudokuTables.GRID_SIZE) {
+            return SudokuTables.conflicts(genes, bound);
+        }
+        int conflicts = 0;
+        for (int[] unit : geometry.units) {
+            long mask = 0;
+            for (int cell : unit) {
+                mask |= 1L << (genes[cell] - 1);
+            }
+            conflicts += unit.length - Long.bitCount(mask);
+            if (conflicts > bound) return conflicts;
+        }
+        return conflicts;
+    }
+
+    // Batch scoring, a block of up to BATCH_CAPACITY genomes at a time; not thread-safe, the engine calls it
+    // on the thread that runs it
+    @Override
+    public void evaluate(int[][] genomes, int from, int to, int[] fitness) {
+        if (batchEvaluator == null) {
+            batchEvaluator = new BatchFitnessEvaluator(geometry, BATCH_CAPACITY);
+        }
+        int batchSize = batchEvaluator.batchSize();
+        for (int start = from; start < to; start += batchSize) {
+            int count = Math.min(batchSize, to - start);
+            for (int lane = 0; lane < count; lane++) {
+                batchEvaluator.setGenome(lane, genomes[start + lane]);
+            }
+            int[] scores = batchEvaluator.evaluate();
+            System.arraycopy(scores, 0, fitness, start, count);
+        }
+    }
+
+    @Override
+    public void crossover(int[] parent1, int[] parent2, int[] child, SudokuRandom random) {
+        crossover.apply(parent1, parent2, child, geometry, freeCells, random);
+    }
+
+    @Override
+    public void mutate(int[] genes, double rate, SudokuRandom random) {
+        for (int cell : freeCells) {
+            if (random.nextDouble() < rate) {
+                long possible = candidates(genes, cell);
+                if (possible != 0) {
+                    genes[cell] = SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)));
+                }
+            }
+        }
+    }
+
+    // The genome as an N x N board
+    public int[][] toBoard(int[] genes) {
+        int[][] board = new int[geometry.size][geometry.size];
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            board[geometry.rowOf[cell]][geometry.colOf[cell]] = genes[cell];
+        }
+        return board;
+    }
+
+    // An N x N board as a genome, e.g. a migrant from another island
+    public int[] toGenes(int[][] board) {
+        int[] genes = new int[geometry.cellCount];
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            genes[cell] = board[geometry.rowOf[cell]][geometry.colOf[cell]];
+        }
+        return genes;
+    }
+
+    // Helper Method: candidates(int[] genes, int cell), values no peer of the cell holds
+    private long candidates(int[] genes, int cell) {
+        if (geometry.size == SudokuTables.GRID_SIZE) {
+            return SudokuTables.candidates(genes, cell);
+        }
+        long used = 0;
+        for (int peer : geometry.peers[cell]) {
+            int value = genes[peer];
+            if (value != 0) {
+                used |= 1L << (value - 1);
+            }
+        }
+        return geometry.fullMask & ~used;
+    }
+}
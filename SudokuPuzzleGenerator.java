@@ -0,0 +1,155 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SudokuPuzzleGenerator {
+
+    //------------------------------------------------------------------------------------------------
+    // Seeded generator of 9x9 puzzles with a unique solution at a target difficulty, for load-test corpora
+    // Puzzle i depends only on the seed and i: it draws from SudokuRandom.stream(seed, i), so a corpus is the
+    // same for every thread count. A puzzle starts from a random full grid (the three diagonal subgrids are
+    // independent, they get random permutations and the exact solver completes the grid), then clues are
+    // removed in random order, each removal kept only while the solution stays unique
+    // (ExactSudokuSolver.countSolutions(puzzle, 2) == 1) and the DifficultyEstimator does not rate the
+    // puzzle above the target. Once no clue can be removed any more, the puzzle is kept if it is rated at the
+    // target (so it has about the fewest givens of its level); a grid that ends below the target is
+    // replaced by a new one, up to MAX_ATTEMPTS grids
+    // Run with: java SudokuPuzzleGenerator <output> <count> [level] [seed] [threads]
+    //   level is easy, medium, hard or very_hard (default medium)
+    private static final int GRID_SIZE = 9;
+    private static final int BOX_SIZE = 3;
+    private static final int MAX_ATTEMPTS = 100;
+
+    private final long seed;
+    private final DifficultyEstimator.Difficulty target;
+    private final ThreadLocal<ExactSudokuSolver> exact = ThreadLocal.withInitial(() -> new ExactSudokuSolver(GRID_SIZE));
+
+    public SudokuPuzzleGenerator(long seed, DifficultyEstimator.Difficulty target) {
+        this.seed = seed;
+        this.target = target;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: generate(long index)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(A * N^2) uniqueness checks for A attempts, a few milliseconds per 9x9 puzzle
+    // Space Complexity: O(N^2)
+    // Puzzle number `index` of the corpus; safe to call from several threads at once
+    // After MAX_ATTEMPTS grids without a puzzle at the target, the last puzzle is returned as it is (unique,
+    // rated below the target), which only happens for targets the removal order rarely reaches
+    public int[][] generate(long index) {
+        SudokuRandom random = SudokuRandom.stream(seed, index);
+        ExactSudokuSolver solver = exact.get();
+        int[][] puzzle = null;
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            puzzle = fullGrid(solver, random);
+            if (dig(solver, puzzle, random)) {
+                return puzzle;
+            }
+        }
+        return puzzle;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: write(String path, long count, int threads)
+    // Data Structure: void
+    // Time Complexity: O(count) puzzles spread over `threads`
+    // Space Complexity: O(threads) puzzles in flight
+    // Generate puzzles 0 .. count-1 and stream them to `path` in index order, one line per puzzle
+    // At most four puzzles per thread are in flight, so memory does not grow with `count`
+    public void write(String path, long count, int threads) throws IOException, InterruptedException {
+        int window = Math.max(1, threads) * 4;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        Future<?>[] inFlight = new Future<?>[window];
+        try (SudokuCorpusWriter writer = new SudokuCorpusWriter(Paths.get(path))) {
+            long submitted = 0;
+            for (long written = 0; written < count; written++) {
+                while (submitted < count && submitted < written + window) {
+                    long index = submitted++;
+                    inFlight[(int) (index % window)] = executor.submit(() -> generate(index));
+                }
+                try {
+                    writer.write((int[][]) inFlight[(int) (written % window)].get());
+                } catch (java.util.concurrent.ExecutionException e) {
+                    throw new IllegalStateException("Puzzle " + written + " failed", e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: fullGrid(ExactSudokuSolver solver, SudokuRandom random)
+    // Random permutations in the three diagonal subgrids, completed by the exact solver (always solvable,
+    // the diagonal subgrids share no row, column or subgrid)
+    private static int[][] fullGrid(ExactSudokuSolver solver, SudokuRandom random) {
+        int[][] grid = new int[GRID_SIZE][GRID_SIZE];
+        int[] digits = new int[GRID_SIZE];
+        for (int box = 0; box < BOX_SIZE; box++) {
+            for (int i = 0; i < GRID_SIZE; i++) {
+                int k = random.nextInt(i + 1);
+                digits[i] = digits[k];
+                digits[k] = i + 1;
+            }
+            for (int i = 0; i < GRID_SIZE; i++) {
+                grid[box * BOX_SIZE + i / BOX_SIZE][box * BOX_SIZE + i % BOX_SIZE] = digits[i];
+            }
+        }
+        return solver.solve(grid);
+    }
+
+    // Helper Method 2: dig(ExactSudokuSolver solver, int[][] puzzle, SudokuRandom random)
+    // Remove clues in random order while the solution stays unique and the rating stays at or below the
+    // target, true when the final puzzle is rated at the target
+    private boolean dig(ExactSudokuSolver solver, int[][] puzzle, SudokuRandom random) {
+        int[] cells = new int[GRID_SIZE * GRID_SIZE];
+        for (int i = 0; i < cells.length; i++) {
+            int k = random.nextInt(i + 1);
+            cells[i] = cells[k];
+            cells[k] = i;
+        }
+        DifficultyEstimator.Difficulty rating = DifficultyEstimator.Difficulty.EASY;
+        for (int cell : cells) {
+            int row = cell / GRID_SIZE;
+            int col = cell % GRID_SIZE;
+            int value = puzzle[row][col];
+            puzzle[row][col] = 0;
+            if (solver.countSolutions(puzzle, 2) != 1) {
+                puzzle[row][col] = value;
+                continue;
+            }
+            DifficultyEstimator.Difficulty next = new DifficultyEstimator(puzzle).difficulty;
+            if (next.compareTo(target) > 0) {
+                puzzle[row][col] = value;
+            } else {
+                rating = next;
+            }
+        }
+        return rating == target;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: java SudokuPuzzleGenerator <output> <count> [level] [seed] [threads]");
+            return;
+        }
+        long count = Long.parseLong(args[1]);
+        DifficultyEstimator.Difficulty level = args.length > 2
+                ? DifficultyEstimator.Difficulty.valueOf(args[2].toUpperCase()) : DifficultyEstimator.Difficulty.MEDIUM;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        long startTime = System.currentTimeMillis();
+        new SudokuPuzzleGenerator(seed, level).write(args[0], count, threads);
+        long endTime = System.currentTimeMillis();
+        System.out.println("Generated " + count + " " + level + " puzzles in " + (endTime - startTime) / 1000.0
+                + " seconds");
+    }
+}
@@ -0,0 +1,101 @@
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SudokuRandom {
+
+    //------------------------------------------------------------------------------------------------
+    // Seedable random number generator for the GA (SplitMix64)
+    // Its whole state is one long that can be read and restored, which is what lets a checkpoint capture
+    // the RNG exactly and a resumed run continue with the same sequence of random numbers
+    // Independent streams for islands, workers or individuals come from split() or stream(seed, index), as
+    // in java.util.SplittableRandom: each has its own seed and its own odd increment (gamma), so streams
+    // neither overlap in practice nor depend on which thread draws from them. The gamma is fixed when a
+    // generator is created; seeded generators use GOLDEN_GAMMA, which is why the state alone restores them
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final AtomicLong UNSEEDED = new AtomicLong();
+
+    private long state;
+    private final long gamma;
+
+    public SudokuRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private SudokuRandom(long seed, long gamma) {
+        this.state = seed;
+        this.gamma = gamma;
+    }
+
+    // Unseeded generator, a different sequence on every run; the counter keeps generators created within
+    // the same nanoTime tick apart
+    public SudokuRandom() {
+        this(mix64(System.nanoTime() ^ UNSEEDED.getAndAdd(GOLDEN_GAMMA)));
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    public long nextLong() {
+        return mix64(state += gamma);
+    }
+
+    // New generator for an independent stream, seeded from this one (advances this generator twice)
+    public SudokuRandom split() {
+        long seed = nextLong();
+        return new SudokuRandom(seed, mixGamma(state += gamma));
+    }
+
+    // Generator of stream `index` of `seed`, without any shared state: the same seed and index always give
+    // the same stream, whichever thread asks for it and in whatever order
+    public static SudokuRandom stream(long seed, long index) {
+        long z = seed + (index + 1) * GOLDEN_GAMMA;
+        return new SudokuRandom(mix64(z), mixGamma(z));
+    }
+
+    // Uniform integer in [0, bound), bound must be positive
+    public int nextInt(int bound) {
+        int r = (int) (nextLong() >>> 33);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return (int) ((bound * (long) r) >>> 31);
+        }
+        for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong() >>> 33)) {
+        }
+        return r;
+    }
+
+    // Uniform double in [0, 1)
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    // Standard normal value (Box-Muller, one of the pair is used so the state stays a single long)
+    public double nextGaussian() {
+        double u = 1.0 - nextDouble(); // (0, 1], keeps the logarithm finite
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * nextDouble());
+    }
+
+    // Helper Method: mix64(long z), the SplitMix64 output function
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Helper Method: mixGamma(long z), an odd increment with enough bit transitions (as SplittableRandom)
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
@@ -0,0 +1,127 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class SudokuRouter {
+
+    //------------------------------------------------------------------------------------------------
+    // Picks the engine for each incoming puzzle from its DifficultyEstimator
+    // Puzzles the estimator sends to the exact engine are solved by ExactSudokuSolver, the others by a GA
+    // solver configured with the preset of their difficulty, so an Easy puzzle never runs with a Very Hard
+    // budget. A GA result that is not a solution falls back to the exact engine when exact solving is allowed
+    // One GA solver is kept per preset, all of them share the given SolutionCache and SolutionStore; exact
+    // solutions of 9x9 puzzles are looked up in and added to the same store and cache
+    private final SimpleGeneticSudokuSolver[] solvers = new SimpleGeneticSudokuSolver[DifficultyEstimator.Preset.values().length];
+    private final SolutionCache cache;
+    private final SolutionStore store;
+    private final boolean exactAllowed;
+    private ExactSudokuSolver exact;
+    private final int[] routed = new int[DifficultyEstimator.Preset.values().length];
+    private int exactSolves;
+    private int fallbacks;
+
+    public SudokuRouter(SolutionCache cache, SolutionStore store, boolean exactAllowed) {
+        this.cache = cache;
+        this.store = store;
+        this.exactAllowed = exactAllowed;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: solve(int[][] puzzle)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(N^3) for the estimate, then the chosen engine
+    // Space Complexity: O(N^2)
+    // The solution, or the GA's best board when no engine solved the puzzle
+    public int[][] solve(int[][] puzzle) {
+        DifficultyEstimator estimate = new DifficultyEstimator(puzzle);
+        if (exactAllowed && estimate.useExact()) {
+            int[][] known = lookup(puzzle);
+            if (known != null) {
+                return known;
+            }
+            int[][] solution = exact(puzzle.length).solve(puzzle);
+            if (solution != null) {
+                exactSolves++;
+                remember(puzzle, solution);
+                return solution;
+            }
+        }
+
+        DifficultyEstimator.Preset preset = estimate.preset();
+        routed[preset.ordinal()]++;
+        int[][] best = solver(preset).solve(puzzle);
+        if (exactAllowed && !SudokuGeometry.forGrid(puzzle.length).isSolved(best)) {
+            int[][] solution = exact(puzzle.length).solve(puzzle);
+            if (solution != null) {
+                fallbacks++;
+                remember(puzzle, solution);
+                return solution;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("Routing: exact=" + exactSolves);
+        for (DifficultyEstimator.Preset preset : DifficultyEstimator.Preset.values()) {
+            text.append(", ").append(preset).append('=').append(routed[preset.ordinal()]);
+        }
+        return text.append(", exact fallbacks=").append(fallbacks).toString();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: solver(DifficultyEstimator.Preset preset)
+    private SimpleGeneticSudokuSolver solver(DifficultyEstimator.Preset preset) {
+        SimpleGeneticSudokuSolver solver = solvers[preset.ordinal()];
+        if (solver == null) {
+            solver = new SimpleGeneticSudokuSolver(preset.populationSize, preset.mutationRate, preset.maxGenerations);
+            solver.setSolutionCache(cache);
+            solver.setSolutionStore(store);
+            solvers[preset.ordinal()] = solver;
+        }
+        return solver;
+    }
+
+    // Helper Method 2: exact(int gridSize)
+    // The exact solver is sized for one grid, a corpus mixing sizes gets a new one on every size change
+    private ExactSudokuSolver exact(int gridSize) {
+        if (exact == null || exact.gridSize() != gridSize) {
+            exact = new ExactSudokuSolver(gridSize);
+        }
+        return exact;
+    }
+
+    // Helper Method 3: lookup(int[][] puzzle)
+    // Stored or cached solution of a 9x9 puzzle, store first as in SimpleGeneticSudokuSolver.solve
+    private int[][] lookup(int[][] puzzle) {
+        if (puzzle.length != PackedBoard.GRID_SIZE) {
+            return null;
+        }
+        try {
+            int[][] solution = store != null ? store.get(puzzle) : null;
+            if (solution == null && cache != null) {
+                solution = cache.get(puzzle);
+                if (solution != null && store != null) store.put(puzzle, solution);
+            }
+            return solution;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Helper Method 4: remember(int[][] puzzle, int[][] solution)
+    // Add an exact solution of a 9x9 puzzle to the store and the cache, like the GA solvers do with theirs
+    private void remember(int[][] puzzle, int[][] solution) {
+        if (puzzle.length != PackedBoard.GRID_SIZE) {
+            return;
+        }
+        try {
+            if (store != null) store.put(puzzle, solution);
+            if (cache != null) cache.put(puzzle, solution);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+public final class SudokuTables {
+
+    //------------------------------------------------------------------------------------------------
+    // Static lookup tables and conflict kernels of the classic 9x9 grid, shared by every 9x9 component
+    // Cells are numbered row-major from 0 to 80, units are the 9 rows, then the 9 columns, then the 9
+    // subgrids (the same numbering as SudokuGeometry, whose general tables serve the other grid sizes)
+    //   UNITS[9 * u + k]      - k-th cell of unit u (27 x 9)
+    //   PEERS[20 * c + k]     - k-th of the 20 peers of cell c (81 x 20)
+    //   CELL_UNITS[3 * c + k] - row, column and subgrid unit of cell c (81 x 3)
+    //   BOX_OF[c]             - subgrid of cell c
+    //   BIT[v]                - mask bit of value v, 0 for an empty cell, so masks are built without branches
+    //   POPCOUNT[m]           - number of values in a 9-bit mask
+    // The tables are flat static final arrays and every loop has a constant trip count of 9, 20 or 27, which
+    // lets the JIT unroll the kernels and drop most bounds checks; a unit of 9 filled cells has
+    // 9 - POPCOUNT[mask] duplicates, so conflict counting is one OR and one table load per cell and unit
+    // The arrays are mutable, so they are package-private: code outside the solver's own classes reads the
+    // grid through the kernels below
+    public static final int GRID_SIZE = 9;
+    public static final int BOX_SIZE = 3;
+    public static final int CELL_COUNT = 81;
+    public static final int UNIT_COUNT = 27;
+    public static final int PEER_COUNT = 20;
+    public static final int FULL_MASK = (1 << GRID_SIZE) - 1;
+
+    static final int[] UNITS = new int[UNIT_COUNT * GRID_SIZE];
+    static final int[] PEERS = new int[CELL_COUNT * PEER_COUNT];
+    static final int[] CELL_UNITS = new int[CELL_COUNT * 3];
+    static final int[] BOX_OF = new int[CELL_COUNT];
+    static final int[] BIT = {0, 1, 2, 4, 8, 16, 32, 64, 128, 256};
+    static final byte[] POPCOUNT = new byte[FULL_MASK + 1];
+
+    static {
+        int[] filled = new int[UNIT_COUNT];
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int row = cell / GRID_SIZE;
+            int col = cell % GRID_SIZE;
+            BOX_OF[cell] = (row / BOX_SIZE) * BOX_SIZE + col / BOX_SIZE;
+            CELL_UNITS[3 * cell] = row;
+            CELL_UNITS[3 * cell + 1] = GRID_SIZE + col;
+            CELL_UNITS[3 * cell + 2] = 2 * GRID_SIZE + BOX_OF[cell];
+            for (int k = 0; k < 3; k++) {
+                int unit = CELL_UNITS[3 * cell + k];
+                UNITS[GRID_SIZE * unit + filled[unit]++] = cell;
+            }
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            int count = 0;
+            for (int other = 0; other < CELL_COUNT; other++) {
+                if (other != cell && (other / GRID_SIZE == cell / GRID_SIZE || other % GRID_SIZE == cell % GRID_SIZE
+                        || BOX_OF[other] == BOX_OF[cell])) {
+                    PEERS[PEER_COUNT * cell + count++] = other;
+                }
+            }
+        }
+        for (int mask = 1; mask <= FULL_MASK; mask++) {
+            POPCOUNT[mask] = (byte) (POPCOUNT[mask >> 1] + (mask & 1));
+        }
+    }
+
+    private SudokuTables() {
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: conflicts(int[][] board)
+    // Data Structure: Integer
+    // Time Complexity: O(1), 3 passes over the 81 cells
+    // Space Complexity: O(1)
+    // Duplicate values over all rows, columns and subgrids of a 9x9 board, empty cells ignored; the same
+    // count as SudokuGeometry.conflicts. Each pass keeps its unit's mask in a local
+    public static int conflicts(int[][] board) {
+        int conflicts = 0;
+        for (int i = 0; i < GRID_SIZE; i++) {
+            int[] row = board[i];
+            int mask = 0;
+            int filled = 0;
+            for (int j = 0; j < GRID_SIZE; j++) {
+                int bit = BIT[row[j]];
+                mask |= bit;
+                filled += POPCOUNT[bit];
+            }
+            conflicts += filled - POPCOUNT[mask];
+        }
+        for (int j = 0; j < GRID_SIZE; j++) {
+            int mask = 0;
+            int filled = 0;
+            for (int i = 0; i < GRID_SIZE; i++) {
+                int bit = BIT[board[i][j]];
+                mask |= bit;
+                filled += POPCOUNT[bit];
+            }
+            conflicts += filled - POPCOUNT[mask];
+        }
+        for (int top = 0; top < GRID_SIZE; top += BOX_SIZE) {
+            for (int left = 0; left < GRID_SIZE; left += BOX_SIZE) {
+                int mask = 0;
+                int filled = 0;
+                for (int i = top; i < top + BOX_SIZE; i++) {
+                    int[] row = board[i];
+                    for (int j = left; j < left + BOX_SIZE; j++) {
+                        int bit = BIT[row[j]];
+                        mask |= bit;
+                        filled += POPCOUNT[bit];
+                    }
+                }
+                conflicts += filled - POPCOUNT[mask];
+            }
+        }
+        return conflicts;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: conflicts(int[] cells)
+    // Data Structure: Integer
+    // Time Complexity: O(1), 27 units of 9 cells
+    // Space Complexity: O(1)
+    // Same count on a flat row-major board of 81 cells, walking the UNITS table
+    public static int conflicts(int[] cells) {
+        int conflicts = 0;
+        for (int unit = 0; unit < UNIT_COUNT; unit++) {
+            int base = GRID_SIZE * unit;
+            int mask = 0;
+            int filled = 0;
+            for (int k = 0; k < GRID_SIZE; k++) {
+                int bit = BIT[cells[UNITS[base + k]]];
+                mask |= bit;
+                filled += POPCOUNT[bit];
+            }
+            conflicts += filled - POPCOUNT[mask];
+        }
+        return conflicts;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: conflicts(int[][] board, int bound) / conflicts(int[] cells, int bound)
+    // Data Structure: Integer
+    // Time Complexity: O(1), at most 27 units of 9 cells
+    // Space Complexity: O(1)
+    // Bounded variants of Methods 1 and 2: the count stops after the first unit that takes it above `bound`,
+    // so a result above `bound` is only a lower bound of the true count (SudokuGeometry.conflicts with a bound)
+    public static int conflicts(int[][] board, int bound) {
+        int conflicts = 0;
+        for (int i = 0; i < GRID_SIZE; i++) {
+            int[] row = board[i];
+            int mask = 0;
+            int filled = 0;
+            for (int j = 0; j < GRID_SIZE; j++) {
+                int bit = BIT[row[j]];
+                mask |= bit;
+                filled += POPCOUNT[bit];
+            }
+            conflicts += filled - POPCOUNT[mask];
+            if (conflicts > bound) return conflicts;
+        }
+        for (int j = 0; j < GRID_SIZE; j++) {
+            int mask = 0;
+            int filled = 0;
+            for (int i = 0; i < GRID_SIZE; i++) {
+                int bit = BIT[board[i][j]];
+                mask |= bit;
+                filled += POPCOUNT[bit];
+            }
+            conflicts += filled - POPCOUNT[mask];
+            if (conflicts > bound) return conflicts;
+        }
+        for (int top = 0; top < GRID_SIZE; top += BOX_SIZE) {
+            for (int left = 0; left < GRID_SIZE; left += BOX_SIZE) {
+                int mask = 0;
+                int filled = 0;
+                for (int i = top; i < top + BOX_SIZE; i++) {
+                    int[] row = board[i];
+                    for (int j = left; j < left + BOX_SIZE; j++) {
+                        int bit = BIT[row[j]];
+                        mask |= bit;
+                        filled += POPCOUNT[bit];
+                    }
+                }
+                conflicts += filled - POPCOUNT[mask];
+                if (conflicts > bound) return conflicts;
+            }
+        }
+        return conflicts;
+    }
+
+    public static int conflicts(int[] cells, int bound) {
+        int conflicts = 0;
+        for (int unit = 0; unit < UNIT_COUNT; unit++) {
+            int base = GRID_SIZE * unit;
+            int mask = 0;
+            int filled = 0;
+            for (int k = 0; k < GRID_SIZE; k++) {
+                int bit = BIT[cells[UNITS[base + k]]];
+                mask |= bit;
+                filled += POPCOUNT[bit];
+            }
+            conflicts += filled - POPCOUNT[mask];
+            if (conflicts > bound) return conflicts;
+        }
+        return conflicts;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 4: candidates(int[][] board, int cell) / candidates(int[] cells, int cell)
+    // Data Structure: Integer bit mask
+    // Time Complexity: O(1), the 20 peers of the cell
+    // Space Complexity: O(1)
+    // Values no peer of the cell holds, value v is bit v - 1
+    public static int candidates(int[][] board, int cell) {
+        int used = 0;
+        int base = PEER_COUNT * cell;
+        for (int k = 0; k < PEER_COUNT; k++) {
+            int peer = PEERS[base + k];
+            used |= BIT[board[peer / GRID_SIZE][peer % GRID_SIZE]];
+        }
+        return FULL_MASK & ~used;
+    }
+
+    public static int candidates(int[] cells, int cell) {
+        int used = 0;
+        int base = PEER_COUNT * cell;
+        for (int k = 0; k < PEER_COUNT; k++) {
+            used |= BIT[cells[PEERS[base + k]]];
+        }
+        return FULL_MASK & ~used;
+    }
+}
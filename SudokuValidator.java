@@ -0,0 +1,202 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+public class SudokuValidator {
+
+    //------------------------------------------------------------------------------------------------
+    // Bitmask validator for solved boards
+    // Every cell turns its value into one bit (1 << (v - 1)) and ORs it into the masks of its row, column
+    // and subgrid. A unit of 9 cells holds each digit exactly once iff its mask ends up as FULL_MASK
+    // (pigeonhole), so one pass over the 81 cells is enough and no duplicate counting is needed
+    // The masks are kept in locals instead of arrays: a row is checked as soon as its 9 cells are read, the
+    // three subgrids of a band at the end of the band, and the 9 column masks travel as 9-bit fields of one
+    // long (columns 0-6) and one int (columns 7-8). Values outside 1..9 map to bit 0 through the DIGIT_BIT
+    // table, so their unit can never become full and no range branch is needed per cell
+    private static final int GRID_SIZE = 9;
+    public static final int CELL_COUNT = GRID_SIZE * GRID_SIZE;
+    private static final int FULL_MASK = (1 << GRID_SIZE) - 1;
+    private static final long FULL_COLUMNS_LOW = fullColumns(7);
+    private static final int FULL_COLUMNS_HIGH = (int) fullColumns(2);
+
+    // Bit of every byte value, 0 for anything but the digits 1..9
+    private static final int[] DIGIT_BIT = new int[256];
+
+    static {
+        for (int value = 1; value <= GRID_SIZE; value++) {
+            DIGIT_BIT[value] = 1 << (value - 1);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: isValid(int[][] board)
+    // Data Structure: Boolean (True or False)
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Check that the 9x9 board is a complete, correct Sudoku solution
+    public boolean isValid(int[][] board) {
+        long columnsLow = 0;
+        int columnsHigh = 0;
+        for (int top = 0; top < GRID_SIZE; top += 3) {
+            int left = 0;
+            int middle = 0;
+            int right = 0;
+            for (int i = top; i < top + 3; i++) {
+                int[] row = board[i];
+                int x0 = bit(row[0]), x1 = bit(row[1]), x2 = bit(row[2]);
+                int x3 = bit(row[3]), x4 = bit(row[4]), x5 = bit(row[5]);
+                int x6 = bit(row[6]), x7 = bit(row[7]), x8 = bit(row[8]);
+                int l = x0 | x1 | x2;
+                int m = x3 | x4 | x5;
+                int r = x6 | x7 | x8;
+                if ((l | m | r) != FULL_MASK) return false;
+                left |= l;
+                middle |= m;
+                right |= r;
+                columnsLow |= x0 | (long) x1 << 9 | (long) x2 << 18 | (long) x3 << 27 | (long) x4 << 36
+                        | (long) x5 << 45 | (long) x6 << 54;
+                columnsHigh |= x7 | x8 << 9;
+            }
+            if ((left & middle & right) != FULL_MASK) return false;
+        }
+        return columnsLow == FULL_COLUMNS_LOW && columnsHigh == FULL_COLUMNS_HIGH;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 2: isValid(byte[] corpus, int offset)
+    // Data Structure: Boolean (True or False)
+    // Time Complexity: O(1)
+    // Space Complexity: O(1)
+    // Same check on a board packed as 81 bytes (one value per byte, row-major) starting at offset
+    public boolean isValid(byte[] corpus, int offset) {
+        long columnsLow = 0;
+        int columnsHigh = 0;
+        for (int band = offset; band < offset + CELL_COUNT; band += 3 * GRID_SIZE) {
+            int left = 0;
+            int middle = 0;
+            int right = 0;
+            for (int i = band; i < band + 3 * GRID_SIZE; i += GRID_SIZE) {
+                int x0 = DIGIT_BIT[corpus[i] & 0xFF], x1 = DIGIT_BIT[corpus[i + 1] & 0xFF];
+                int x2 = DIGIT_BIT[corpus[i + 2] & 0xFF], x3 = DIGIT_BIT[corpus[i + 3] & 0xFF];
+                int x4 = DIGIT_BIT[corpus[i + 4] & 0xFF], x5 = DIGIT_BIT[corpus[i + 5] & 0xFF];
+                int x6 = DIGIT_BIT[corpus[i + 6] & 0xFF], x7 = DIGIT_BIT[corpus[i + 7] & 0xFF];
+                int x8 = DIGIT_BIT[corpus[i + 8] & 0xFF];
+                int l = x0 | x1 | x2;
+                int m = x3 | x4 | x5;
+                int r = x6 | x7 | x8;
+                if ((l | m | r) != FULL_MASK) return false;
+                left |= l;
+                middle |= m;
+                right |= r;
+                columnsLow |= x0 | (long) x1 << 9 | (long) x2 << 18 | (long) x3 << 27 | (long) x4 << 36
+                        | (long) x5 << 45 | (long) x6 << 54;
+                columnsHigh |= x7 | x8 << 9;
+            }
+            if ((left & middle & right) != FULL_MASK) return false;
+        }
+        return columnsLow == FULL_COLUMNS_LOW && columnsHigh == FULL_COLUMNS_HIGH;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 3: validateCorpus(byte[] corpus, int boardCount, int threads)
+    // Data Structure: 1D Integer Array
+    // Time Complexity: O(B / T) where B is boardCount and T is threads
+    // Space Complexity: O(I) where I is the number of invalid boards
+    // Validate a packed corpus of boardCount boards in parallel, return the ids of invalid boards in order
+    // Boards are split into one contiguous range per thread, each thread keeps its own validator
+    public static int[] validateCorpus(byte[] corpus, int boardCount, int threads) throws InterruptedException {
+        threads = Math.max(1, Math.min(threads, boardCount));
+        int[][] invalid = new int[threads][];
+        int[] invalidCount = new int[threads];
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            final int worker = t;
+            final int from = (int) ((long) boardCount * t / threads);
+            final int to = (int) ((long) boardCount * (t + 1) / threads);
+            workers[t] = new Thread(() -> {
+                SudokuValidator validator = new SudokuValidator();
+                int[] ids = new int[16];
+                int n = 0;
+                for (int id = from; id < to; id++) {
+                    if (!validator.isValid(corpus, id * CELL_COUNT)) {
+                        if (n == ids.length) ids = Arrays.copyOf(ids, n * 2);
+                        ids[n++] = id;
+                    }
+                }
+                invalid[worker] = ids;
+                invalidCount[worker] = n;
+            }, "sudoku-validator-" + t);
+            workers[t].start();
+        }
+
+        int total = 0;
+        for (int t = 0; t < threads; t++) {
+            workers[t].join();
+            total += invalidCount[t];
+        }
+        int[] result = new int[total];
+        int pos = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(invalid[t], 0, result, pos, invalidCount[t]);
+            pos += invalidCount[t];
+        }
+        return result;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: pack(int[][] board, byte[] corpus, int offset)
+    // Store a 9x9 board as 81 bytes in the packed corpus layout used by validateCorpus
+    public static void pack(int[][] board, byte[] corpus, int offset) {
+        for (int i = 0; i < GRID_SIZE; i++) {
+            for (int j = 0; j < GRID_SIZE; j++) {
+                corpus[offset++] = (byte) board[i][j];
+            }
+        }
+    }
+
+    // Helper Method 2: bit(int value), the mask bit of a cell value, 0 outside 1..9
+    private static int bit(int value) {
+        return (value & ~0xFF) == 0 ? DIGIT_BIT[value] : 0;
+    }
+
+    // Helper Method 3: fullColumns(int columns), `columns` full 9-bit column masks side by side
+    private static long fullColumns(int columns) {
+        long full = 0;
+        for (int j = 0; j < columns; j++) {
+            full |= (long) FULL_MASK << (GRID_SIZE * j);
+        }
+        return full;
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Main code
+    // Validate a one-line solution corpus: java SudokuValidator <solutions> [threads]
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        byte[] corpus = new byte[CELL_COUNT * 1024];
+        int boardCount = 0;
+        try (SudokuCorpusReader reader = new SudokuCorpusReader(Paths.get(args[0]))) {
+            int[][] board;
+            while ((board = reader.next()) != null) {
+                if ((boardCount + 1) * CELL_COUNT > corpus.length) {
+                    corpus = Arrays.copyOf(corpus, corpus.length * 2);
+                }
+                pack(board, corpus, boardCount * CELL_COUNT);
+                boardCount++;
+            }
+        }
+
+        long startTime = System.nanoTime();
+        int[] invalid = validateCorpus(corpus, boardCount, threads);
+        long endTime = System.nanoTime();
+
+        for (int id : invalid) {
+            System.out.println("Invalid board: " + id);
+        }
+        System.out.println(invalid.length + " invalid out of " + boardCount + " boards, checked in "
+                + (endTime - startTime) / 1e6 + " ms");
+    }
+}
@@ -0,0 +1,238 @@
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+public final class OffHeapPopulation implements PopulationBackend {
+
+    //------------------------------------------------------------------------------------------------
+    // Off-heap population backend for very large populations (millions of individuals)
+    // Instead of one Individual object and one int[][] per candidate, every genome is a run of `stride`
+    // bytes (one byte per cell, row-major) in a native MemorySegment, and the fitness values and the ranking
+    // are int arrays in native memory as well. All segments belong to one confined Arena that is closed
+    // when the solve ends, so the Java heap and the GC see a handful of objects whatever the population size
+    // Compiled apart from the core sources and created through PopulationBackend.offHeap (see the README)
+    //
+    // Two genome segments are used in turn: the current generation is read, the next one is written, then
+    // they swap. Ranking is a counting sort over fitness values (which are small integers), selection,
+    // crossover, mutation and fitness all read and write the segments directly
+    private static final ValueLayout.OfByte CELL = ValueLayout.JAVA_BYTE;
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT;
+    private static final int TOURNAMENT_SIZE = 5;
+
+    private final Arena arena;
+    private final SudokuGeometry geometry;
+    private final int populationSize;
+    private final long stride;
+    private final int maxFitness;
+    private MemorySegment genomes;
+    private MemorySegment nextGenomes;
+    private MemorySegment fitness;
+    private MemorySegment nextFitness;
+    private final MemorySegment order;
+    private final MemorySegment counts;
+    private final MemorySegment puzzle;
+
+    //------------------------------------------------------------------------------------------------
+    // Constructor - allocate the native segments for a population of the given size
+    public OffHeapPopulation(int[][] puzzle, int populationSize) {
+        this.arena = Arena.ofConfined();
+        this.geometry = SudokuGeometry.forGrid(puzzle.length);
+        this.populationSize = populationSize;
+        this.stride = (geometry.cellCount + 7) & ~7L; // Keep every genome 8-byte aligned
+        this.maxFitness = 3 * geometry.size * geometry.size;
+        this.genomes = arena.allocate(stride * populationSize, 8);
+        this.nextGenomes = arena.allocate(stride * populationSize, 8);
+        this.fitness = arena.allocate(4L * populationSize, 4);
+        this.nextFitness = arena.allocate(4L * populationSize, 4);
+        this.order = arena.allocate(4L * populationSize, 4);
+        this.counts = arena.allocate(4L * (maxFitness + 2), 4);
+        this.puzzle = arena.allocate(stride, 8);
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            this.puzzle.set(CELL, cell, (byte) puzzle[geometry.rowOf[cell]][geometry.colOf[cell]]);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: evolve(double mutationRate, int maxGenerations, SudokuRandom random)
+    // Data Structure: 2D Integer Array
+    // Time Complexity: O(G * P * N^2)
+    // Space Complexity: O(P * N^2) off-heap, O(1) on-heap
+    // Same generational scheme as SimpleGeneticSudokuSolver: keep the best half, refill with tournament
+    // selected, uniformly crossed and mutated children, stop at fitness 0 or after maxGenerations
+    @Override
+    public int[][] evolve(double mutationRate, int maxGenerations, SudokuRandom random) {
+        for (int i = 0; i < populationSize; i++) {
+            randomFill(genomes, i, random);
+            fitness.setAtIndex(INT, i, evaluate(genomes, i));
+        }
+
+        int elites = populationSize / 2;
+        for (int generation = 0; generation < maxGenerations; generation++) {
+            rank();
+            int best = order.getAtIndex(INT, 0);
+            if (fitness.getAtIndex(INT, best) == 0) {
+                System.out.println("Solution found at generation: " + generation);
+                return toBoard(best);
+            }
+
+            for (int i = 0; i < elites; i++) {
+                int source = order.getAtIndex(INT, i);
+                MemorySegment.copy(genomes, source * stride, nextGenomes, i * stride, stride);
+                nextFitness.setAtIndex(INT, i, fitness.getAtIndex(INT, source));
+            }
+            for (int i = elites; i < populationSize; i++) {
+                int parent1 = tournament(random);
+                int parent2 = tournament(random);
+                crossover(parent1, parent2, i, random);
+                mutate(nextGenomes, i, mutationRate, random);
+                nextFitness.setAtIndex(INT, i, evaluate(nextGenomes, i));
+            }
+            swap();
+        }
+
+        rank();
+        int best = order.getAtIndex(INT, 0);
+        System.out.println("Maximum generations reached. Best fitness: " + fitness.getAtIndex(INT, best));
+        return toBoard(best);
+    }
+
+    // Release every native segment of the population
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Kernels, all working on the native segments
+
+    // Kernel 1: evaluate(MemorySegment segment, int individual)
+    // Conflict count of one genome, same definition as SudokuGeometry.conflicts
+    private int evaluate(MemorySegment segment, int individual) {
+        long base = individual * stride;
+        int conflicts = 0;
+        for (int[] unit : geometry.units) {
+            long mask = 0;
+            int filled = 0;
+            for (int cell : unit) {
+                int value = segment.get(CELL, base + cell);
+                if (value != 0) {
+                    mask |= 1L << (value - 1);
+                    filled++;
+                }
+            }
+            conflicts += filled - Long.bitCount(mask);
+        }
+        return conflicts;
+    }
+
+    // Kernel 2: candidates(MemorySegment segment, long base, int cell)
+    // Values not used by any peer of the cell in the genome starting at base
+    private long candidates(MemorySegment segment, long base, int cell) {
+        long used = 0;
+        for (int peer : geometry.peers[cell]) {
+            int value = segment.get(CELL, base + peer);
+            if (value != 0) {
+                used |= 1L << (value - 1);
+            }
+        }
+        return geometry.fullMask & ~used;
+    }
+
+    // Kernel 3: randomFill(MemorySegment segment, int individual, SudokuRandom random)
+    // Copy the puzzle, then fill empty cells in order with a random candidate (any value when none is left)
+    private void randomFill(MemorySegment segment, int individual, SudokuRandom random) {
+        long base = individual * stride;
+        MemorySegment.copy(puzzle, 0, segment, base, stride);
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            if (segment.get(CELL, base + cell) == 0) {
+                long possible = candidates(segment, base, cell);
+                int value = possible != 0
+                        ? SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)))
+                        : 1 + random.nextInt(geometry.size);
+                segment.set(CELL, base + cell, (byte) value);
+            }
+        }
+    }
+
+    // Kernel 4: tournament(SudokuRandom random)
+    // Index of the fittest of TOURNAMENT_SIZE random members of the current generation
+    private int tournament(SudokuRandom random) {
+        int fittest = random.nextInt(populationSize);
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            int contender = random.nextInt(populationSize);
+            if (fitness.getAtIndex(INT, contender) < fitness.getAtIndex(INT, fittest)) {
+                fittest = contender;
+            }
+        }
+        return fittest;
+    }
+
+    // Kernel 5: crossover(int parent1, int parent2, int child, SudokuRandom random)
+    // Uniform crossover of two current genomes into slot `child` of the next generation, givens are shared
+    // by both parents so every cell can be taken from either one
+    private void crossover(int parent1, int parent2, int child, SudokuRandom random) {
+        long base1 = parent1 * stride, base2 = parent2 * stride, baseChild = child * stride;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            byte value = random.nextBoolean() ? genomes.get(CELL, base1 + cell) : genomes.get(CELL, base2 + cell);
+            nextGenomes.set(CELL, baseChild + cell, value);
+        }
+    }
+
+    // Kernel 6: mutate(MemorySegment segment, int individual, double mutationRate, SudokuRandom random)
+    // Each empty puzzle cell is, with probability mutationRate, reset to a random candidate value
+    private void mutate(MemorySegment segment, int individual, double mutationRate, SudokuRandom random) {
+        long base = individual * stride;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            if (puzzle.get(CELL, cell) == 0 && random.nextDouble() < mutationRate) {
+                long possible = candidates(segment, base, cell);
+                if (possible != 0) {
+                    int value = SudokuGeometry.valueAt(possible, random.nextInt(Long.bitCount(possible)));
+                    segment.set(CELL, base + cell, (byte) value);
+                }
+            }
+        }
+    }
+
+    // Kernel 7: rank()
+    // Stable counting sort of the current generation by fitness into `order`, best first
+    private void rank() {
+        counts.fill((byte) 0);
+        for (int i = 0; i < populationSize; i++) {
+            int f = Math.min(fitness.getAtIndex(INT, i), maxFitness) + 1;
+            counts.setAtIndex(INT, f, counts.getAtIndex(INT, f) + 1);
+        }
+        for (int f = 1; f <= maxFitness + 1; f++) {
+            counts.setAtIndex(INT, f, counts.getAtIndex(INT, f) + counts.getAtIndex(INT, f - 1));
+        }
+        for (int i = 0; i < populationSize; i++) {
+            int f = Math.min(fitness.getAtIndex(INT, i), maxFitness);
+            int position = counts.getAtIndex(INT, f);
+            counts.setAtIndex(INT, f, position + 1);
+            order.setAtIndex(INT, position, i);
+        }
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Methods: all helper methods
+
+    // Helper Method 1: swap()
+    private void swap() {
+        MemorySegment genomesTemp = genomes;
+        genomes = nextGenomes;
+        nextGenomes = genomesTemp;
+        MemorySegment fitnessTemp = fitness;
+        fitness = nextFitness;
+        nextFitness = fitnessTemp;
+    }
+
+    // Helper Method 2: toBoard(int individual)
+    // Copy one genome of the current generation back to an on-heap board
+    private int[][] toBoard(int individual) {
+        int[][] board = new int[geometry.size][geometry.size];
+        long base = individual * stride;
+        for (int cell = 0; cell < geometry.cellCount; cell++) {
+            board[geometry.rowOf[cell]][geometry.colOf[cell]] = genomes.get(CELL, base + cell);
+        }
+        return board;
+    }
+}
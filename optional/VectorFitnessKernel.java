@@ -0,0 +1,65 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+final class VectorFitnessKernel implements BatchFitnessEvaluator.Kernel {
+
+    //------------------------------------------------------------------------------------------------
+    // SIMD kernel of BatchFitnessEvaluator on the incubating Vector API (jdk.incubator.vector)
+    // One vector lane per individual: for every unit, each lane ORs the bit of its value into a mask and
+    // counts its filled cells, and the conflicts of the unit are filled - bitCount(mask) in every lane at once
+    // Uses only operators of the JDK 17 incubator API, so it compiles and loads on JDK 17 and newer
+    // Compiled apart from the core sources (see the README) and only loaded by name by BatchFitnessEvaluator,
+    // which falls back to its scalar loop when the class or the jdk.incubator.vector module is missing
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    VectorFitnessKernel() {
+    }
+
+    // Number of individuals evaluated per vector instruction
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+
+    //------------------------------------------------------------------------------------------------
+    // Method 1: evaluate(int[][] units, int[] block, int batchSize, int[] fitness)
+    // Data Structure: void
+    // Time Complexity: O(B * N^2 / L) where L is the number of lanes
+    // Space Complexity: O(1)
+    // block holds cell c of individual i at c * batchSize + i, batchSize is a multiple of lanes()
+    @Override
+    public void evaluate(int[][] units, int[] block, int batchSize, int[] fitness) {
+        IntVector zero = IntVector.zero(SPECIES);
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        for (int offset = 0; offset < batchSize; offset += SPECIES.length()) {
+            IntVector conflicts = zero;
+            for (int[] unit : units) {
+                IntVector mask = zero;
+                IntVector filled = zero;
+                for (int cell : unit) {
+                    IntVector value = IntVector.fromArray(SPECIES, block, cell * batchSize + offset);
+                    VectorMask<Integer> present = value.compare(VectorOperators.NE, 0);
+                    IntVector bit = one.lanewise(VectorOperators.LSHL, value.sub(1));
+                    mask = mask.lanewise(VectorOperators.OR, bit, present);
+                    filled = filled.add(one, present);
+                }
+                conflicts = conflicts.add(filled.sub(bitCount(mask)));
+            }
+            conflicts.intoArray(fitness, offset);
+        }
+    }
+
+    // Helper Method: bitCount(IntVector mask)
+    // Lanewise population count of masks up to 32 bits by halving sums (shifts, ANDs and adds), since
+    // VectorOperators.BIT_COUNT only exists from JDK 19 and this kernel must load on JDK 17
+    private static IntVector bitCount(IntVector mask) {
+        IntVector x = mask.sub(mask.lanewise(VectorOperators.LSHR, 1).and(0x55555555));
+        x = x.and(0x33333333).add(x.lanewise(VectorOperators.LSHR, 2).and(0x33333333));
+        x = x.add(x.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F0F0F);
+        x = x.add(x.lanewise(VectorOperators.LSHR, 8));
+        x = x.add(x.lanewise(VectorOperators.LSHR, 16));
+        return x.and(0x3F);
+    }
+}